@@ -2,6 +2,7 @@ package com.multitenant.app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Multi-Tenant Spring Boot application.
@@ -10,6 +11,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * and bootstrapping multi-tenant system components.
  */
 @SpringBootApplication
+@EnableScheduling
 public class MultitenantSpringbootBackendApplication {
 
 	/**
@@ -4,6 +4,7 @@ import com.multitenant.app.auth.dto.LoginRequestDto;
 import com.multitenant.app.auth.dto.LoginResponseDto;
 import com.multitenant.app.auth.service.AuthService;
 import com.multitenant.app.context.TenantContext;
+import com.multitenant.app.context.TenantResolution;
 import com.multitenant.app.master.service.TenantLookupService;
 import com.multitenant.app.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -56,8 +57,8 @@ public class AuthServiceImpl implements AuthService {
 				throw new RuntimeException("Invalid tenant code");
 			}
 
-			// Set tenant context for routing datasource
-			TenantContext.setTenantDb(dbConfig.getDbName());
+			// Set tenant context for routing datasource and tenant row filter
+			TenantContext.setTenant(TenantResolution.of(dbConfig.getTenantId(), dbConfig.getDbName(), dbConfig.getTier()));
 
 			// Authenticate user credentials
 			var authentication = authenticationManager.authenticate(
@@ -0,0 +1,339 @@
+package com.multitenant.app.common.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * BoundedCache
+ *
+ * Thread-safe, size-bounded LRU cache with optional
+ * time-based expiry.
+ *
+ * Optionally bounded by total weight as well, where each
+ * entry weighs what the weigher reports (for example its
+ * estimated size in bytes); least recently used entries
+ * are evicted until both limits hold.
+ *
+ * Entries expire a fixed time after they were written or,
+ * when idle expiry is enabled, after they were last read.
+ * Removed entries are handed to an optional listener
+ * outside the cache lock so that slow cleanup (such as
+ * closing a connection pool) never blocks other callers.
+ *
+ * @param <K> cache key type
+ * @param <V> cache value type
+ */
+public class BoundedCache<K, V> {
+
+	/* Maximum number of entries kept in memory */
+	private final int maxSize;
+
+	/* Maximum total weight of entries (zero or less disables weight bound) */
+	private final long maxWeight;
+
+	/* Computes entry weight (null when weight is not bounded) */
+	private final ToLongFunction<V> weigher;
+
+	/* Total weight of cached entries, guarded by cache lock */
+	private long totalWeight;
+
+	/* Entry lifetime in nanoseconds (zero or less disables expiry) */
+	private final long ttlNanos;
+
+	/* Refresh entry lifetime on every read (idle expiry) */
+	private final boolean expireAfterAccess;
+
+	/* Invoked for every entry leaving the cache */
+	private final BiConsumer<K, V> removalListener;
+
+	/* Access-ordered map, eldest entry is the least recently used */
+	private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/* Usage statistics */
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	public BoundedCache(int maxSize, long ttlMillis) {
+		this(maxSize, ttlMillis, false, null);
+	}
+
+	public BoundedCache(int maxSize, long ttlMillis, boolean expireAfterAccess, BiConsumer<K, V> removalListener) {
+		this(maxSize, 0, null, ttlMillis, expireAfterAccess, removalListener);
+	}
+
+	public BoundedCache(int maxSize, long maxWeight, ToLongFunction<V> weigher, long ttlMillis) {
+		this(maxSize, maxWeight, weigher, ttlMillis, false, null);
+	}
+
+	private BoundedCache(int maxSize, long maxWeight, ToLongFunction<V> weigher, long ttlMillis,
+			boolean expireAfterAccess, BiConsumer<K, V> removalListener) {
+		if (maxSize <= 0)
+			throw new IllegalArgumentException("Cache size must be greater than zero");
+		this.maxSize = maxSize;
+		this.maxWeight = weigher != null ? maxWeight : 0;
+		this.weigher = weigher;
+		this.ttlNanos = ttlMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(ttlMillis) : 0;
+		this.expireAfterAccess = expireAfterAccess;
+		this.removalListener = removalListener;
+	}
+
+	/**
+	 * Returns cached value or null when absent or expired.
+	 */
+	public V get(K key) {
+		List<Removal<K, V>> removed = new ArrayList<>(1);
+		V value = null;
+		synchronized (entries) {
+			Entry<V> entry = entries.get(key);
+			if (entry != null) {
+				long now = System.nanoTime();
+				if (isExpired(entry, now)) {
+					entries.remove(key);
+					totalWeight -= entry.weight;
+					evictionCount.incrementAndGet();
+					removed.add(new Removal<>(key, entry.value));
+				} else {
+					if (expireAfterAccess)
+						entry.touchedAt = now;
+					value = entry.value;
+				}
+			}
+		}
+		if (value != null)
+			hitCount.incrementAndGet();
+		else
+			missCount.incrementAndGet();
+		notifyRemoved(removed);
+		return value;
+	}
+
+	/**
+	 * Stores value, replacing and releasing any previous one.
+	 */
+	public void put(K key, V value) {
+		List<Removal<K, V>> removed = new ArrayList<>(1);
+		synchronized (entries) {
+			Entry<V> previous = entries.put(key, newEntry(value));
+			if (previous != null) {
+				totalWeight -= previous.weight;
+				if (previous.value != value)
+					removed.add(new Removal<>(key, previous.value));
+			}
+			trimToSize(removed);
+		}
+		notifyRemoved(removed);
+	}
+
+	/**
+	 * Stores value only when no live entry exists.
+	 *
+	 * @return existing value, or null when the given value was stored
+	 */
+	public V putIfAbsent(K key, V value) {
+		List<Removal<K, V>> removed = new ArrayList<>(1);
+		V existing = null;
+		synchronized (entries) {
+			Entry<V> entry = entries.get(key);
+			if (entry != null && !isExpired(entry, System.nanoTime())) {
+				existing = entry.value;
+			} else {
+				if (entry != null) {
+					totalWeight -= entry.weight;
+					evictionCount.incrementAndGet();
+					removed.add(new Removal<>(key, entry.value));
+				}
+				entries.put(key, newEntry(value));
+				trimToSize(removed);
+			}
+		}
+		notifyRemoved(removed);
+		return existing;
+	}
+
+	/**
+	 * Removes single entry (explicit invalidation).
+	 */
+	public V invalidate(K key) {
+		Entry<V> entry;
+		synchronized (entries) {
+			entry = entries.remove(key);
+			if (entry != null)
+				totalWeight -= entry.weight;
+		}
+		if (entry == null)
+			return null;
+		notifyRemoved(List.of(new Removal<>(key, entry.value)));
+		return entry.value;
+	}
+
+	/**
+	 * Removes all entries matching given condition.
+	 */
+	public int invalidateIf(BiPredicate<K, V> condition) {
+		List<Removal<K, V>> removed = new ArrayList<>();
+		synchronized (entries) {
+			Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<K, Entry<V>> next = iterator.next();
+				if (condition.test(next.getKey(), next.getValue().value)) {
+					iterator.remove();
+					totalWeight -= next.getValue().weight;
+					removed.add(new Removal<>(next.getKey(), next.getValue().value));
+				}
+			}
+		}
+		notifyRemoved(removed);
+		return removed.size();
+	}
+
+	/**
+	 * Removes every entry.
+	 */
+	public void clear() {
+		invalidateIf((key, value) -> true);
+	}
+
+	/**
+	 * Removes expired entries and returns how many were evicted.
+	 *
+	 * Expired entries are also dropped lazily on read, this
+	 * sweep only reclaims entries that are no longer requested.
+	 */
+	public int evictExpired() {
+		if (ttlNanos <= 0)
+			return 0;
+		List<Removal<K, V>> removed = new ArrayList<>();
+		long now = System.nanoTime();
+		synchronized (entries) {
+			Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<K, Entry<V>> next = iterator.next();
+				if (isExpired(next.getValue(), now)) {
+					iterator.remove();
+					totalWeight -= next.getValue().weight;
+					removed.add(new Removal<>(next.getKey(), next.getValue().value));
+				}
+			}
+		}
+		evictionCount.addAndGet(removed.size());
+		notifyRemoved(removed);
+		return removed.size();
+	}
+
+	/**
+	 * Returns current number of cached entries.
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Returns number of reads served from cache.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns number of reads that found no live entry.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns number of entries dropped due to size or expiry.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * Returns total weight of cached entries
+	 * (zero when weight is not bounded).
+	 */
+	public long weight() {
+		synchronized (entries) {
+			return totalWeight;
+		}
+	}
+
+	/**
+	 * Evicts least recently used entries above the size
+	 * or weight limit. Caller must hold the cache lock.
+	 */
+	private void trimToSize(List<Removal<K, V>> removed) {
+		Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+		while ((entries.size() > maxSize || (maxWeight > 0 && totalWeight > maxWeight)) && iterator.hasNext()) {
+			Map.Entry<K, Entry<V>> eldest = iterator.next();
+			iterator.remove();
+			totalWeight -= eldest.getValue().weight;
+			evictionCount.incrementAndGet();
+			removed.add(new Removal<>(eldest.getKey(), eldest.getValue().value));
+		}
+	}
+
+	/**
+	 * Creates entry and adds its weight to total.
+	 * Caller must hold the cache lock.
+	 */
+	private Entry<V> newEntry(V value) {
+		long weight = weigher != null ? Math.max(weigher.applyAsLong(value), 0) : 0;
+		totalWeight += weight;
+		return new Entry<>(value, System.nanoTime(), weight);
+	}
+
+	private boolean isExpired(Entry<V> entry, long now) {
+		return ttlNanos > 0 && now - entry.touchedAt >= ttlNanos;
+	}
+
+	private void notifyRemoved(List<Removal<K, V>> removed) {
+		if (removalListener == null)
+			return;
+		for (Removal<K, V> removal : removed)
+			removalListener.accept(removal.key, removal.value);
+	}
+
+	/* Cached value with its weight and last write (or access) timestamp */
+	private static final class Entry<V> {
+
+		private final V value;
+
+		private final long weight;
+
+		private long touchedAt;
+
+		private Entry(V value, long touchedAt, long weight) {
+			this.value = value;
+			this.touchedAt = touchedAt;
+			this.weight = weight;
+		}
+
+	}
+
+	/* Entry removed under lock, released after unlocking */
+	private static final class Removal<K, V> {
+
+		private final K key;
+
+		private final V value;
+
+		private Removal(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.multitenant.app.common.cache;
+
+import com.multitenant.app.context.TenantContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TenantCacheGenerations
+ *
+ * Generation numbers of cached tenant resources keyed
+ * by (tenant cache key, resource).
+ *
+ * Caches put the current generation into their keys;
+ * a write bumps it, invalidating every cached entry of
+ * that tenant resource in O(1) without scanning. Stale
+ * generations age out through cache eviction.
+ *
+ * Must be called with TenantContext set.
+ */
+@Component
+public class TenantCacheGenerations {
+
+	/* Current generation keyed by tenant and resource */
+	private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns key prefix of resource in current tenant
+	 * and generation, read before loading cached data.
+	 *
+	 * @param resource cached resource name
+	 */
+	public String scope(String resource) {
+		String scope = TenantContext.getTenantKey() + ":" + resource;
+		return scope + ":" + generation(scope).get();
+	}
+
+	/**
+	 * Invalidates all cached entries of resource
+	 * in current tenant.
+	 *
+	 * @param resource cached resource name
+	 */
+	public void bump(String resource) {
+		generation(TenantContext.getTenantKey() + ":" + resource).incrementAndGet();
+	}
+
+	private AtomicLong generation(String scope) {
+		return generations.computeIfAbsent(scope, s -> new AtomicLong());
+	}
+
+}
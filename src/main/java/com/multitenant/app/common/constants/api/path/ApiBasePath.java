@@ -18,6 +18,9 @@ public final class ApiBasePath {
 	/* Common path variable for entity ID */
 	public static final String ID = "/{id}";
 
+	/* Common path for cursor (keyset) paginated listings */
+	public static final String CURSOR = "/cursor";
+
 	private ApiBasePath() {} // Prevent instantiation
 
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.multitenant.app.common.constants.api.path;
+
+/**
+ * CacheApiPath
+ *
+ * Defines REST endpoint paths related to
+ * tenant second-level cache operations.
+ */
+public final class CacheApiPath {
+
+	/* Base path for cache APIs */
+	public static final String BASE = ApiBasePath.API + "/cache";
+
+	private CacheApiPath() {} // Prevent instantiation
+
+}
@@ -11,6 +11,12 @@ public final class CustomerApiPath {
 	/* Base path for customer APIs */
 	public static final String BASE = ApiBasePath.API + "/customer";
 
+	/* Bulk customer import */
+	public static final String IMPORT = "/import";
+
+	/* Streaming customer export */
+	public static final String EXPORT = "/export";
+
 	private CustomerApiPath() {} // Prevent instantiation
 
 }
\ No newline at end of file
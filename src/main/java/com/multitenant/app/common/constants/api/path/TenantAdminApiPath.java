@@ -17,6 +17,9 @@ public final class TenantAdminApiPath {
 	/* Tenant registration endpoint */
 	public static final String REGISTER = "/register";
 
+	/* Onboarding job status endpoint */
+	public static final String ONBOARDING_JOB = "/onboarding-jobs/{jobId}";
+
 	private TenantAdminApiPath() {} // Prevent instantiation
 
 }
\ No newline at end of file
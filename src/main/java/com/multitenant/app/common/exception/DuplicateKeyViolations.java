@@ -0,0 +1,47 @@
+package com.multitenant.app.common.exception;
+
+import java.sql.SQLException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DuplicateKeyViolations
+ *
+ * Extracts the violated unique index from MySQL
+ * duplicate-key errors.
+ *
+ * Lets services insert directly and rely on UNIQUE
+ * constraints, translating the failure into a
+ * DuplicateResourceException for the offending field.
+ */
+public final class DuplicateKeyViolations {
+
+	/* MySQL ER_DUP_ENTRY error code */
+	private static final int DUPLICATE_ENTRY = 1062;
+
+	/* Index name in "Duplicate entry 'x' for key '[table.]index'", anchored at end as entry may contain quotes */
+	private static final Pattern KEY = Pattern.compile("for key '(?:[^'.]+\\.)?([^'.]+)'$");
+
+	private DuplicateKeyViolations() {} // Prevent instantiation
+
+	/**
+	 * Returns name of unique index violated by failed write.
+	 *
+	 * Inline UNIQUE columns get index named after the column.
+	 *
+	 * @param failure exception thrown by the write
+	 * @return violated index name, or null when not a duplicate-key error
+	 */
+	public static String violatedKey(Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLException sql && sql.getErrorCode() == DUPLICATE_ENTRY && sql.getMessage() != null) {
+				Matcher matcher = KEY.matcher(sql.getMessage());
+				return matcher.find() ? matcher.group(1) : null;
+			}
+			if (cause.getCause() == cause)
+				break;
+		}
+		return null;
+	}
+
+}
@@ -100,6 +100,14 @@ public class GlobalExceptionHandler {
 		return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, request);
 	}
 
+	/**
+	 * Handles tenant database unavailability.
+	 */
+	@ExceptionHandler(TenantUnavailableException.class)
+	public ResponseEntity<ErrorResponseDto> handleTenantUnavailable(TenantUnavailableException ex, HttpServletRequest request) {
+		return buildErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, request);
+	}
+
 	/**
 	 * Handles all unhandled application exceptions.
 	 */
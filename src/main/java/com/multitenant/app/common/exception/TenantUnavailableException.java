@@ -0,0 +1,22 @@
+package com.multitenant.app.common.exception;
+
+/**
+ * TenantUnavailableException
+ *
+ * Thrown when tenant database connection pool
+ * cannot be created or is not ready in time.
+ *
+ * Signals a temporary condition, callers may
+ * retry the request later.
+ */
+public class TenantUnavailableException extends RuntimeException {
+
+	public TenantUnavailableException(String message) {
+		super(message);
+	}
+
+	public TenantUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
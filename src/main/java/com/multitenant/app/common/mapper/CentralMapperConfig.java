@@ -0,0 +1,23 @@
+package com.multitenant.app.common.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * CentralMapperConfig
+ *
+ * Shared configuration of compile-time generated mappers.
+ *
+ * Generated implementations are Spring beans with plain
+ * getter/setter calls, no reflection at runtime. Null
+ * source values are skipped when updating an existing
+ * object, and unmapped targets (audit timestamps,
+ * associations) are left untouched.
+ */
+@MapperConfig(
+	componentModel = "spring",
+	nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+	unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CentralMapperConfig {
+}
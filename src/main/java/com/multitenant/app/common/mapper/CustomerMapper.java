@@ -4,8 +4,10 @@ import com.multitenant.app.tenant.dto.request.CustomerRequestDto;
 import com.multitenant.app.tenant.dto.response.CustomerResponseDto;
 import com.multitenant.app.tenant.enums.Gender;
 import com.multitenant.app.tenant.model.CustomerModel;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 /**
  * CustomerMapper
@@ -13,49 +15,42 @@ import org.springframework.stereotype.Component;
  * Maps Customer entity and DTO objects while handling
  * custom field conversions such as gender enum mapping.
  */
-@Component
-public class CustomerMapper {
+@Mapper(config = CentralMapperConfig.class)
+public interface CustomerMapper {
 
-	// ModelMapper instance used for object mapping
-	private final ModelMapper modelMapper;
+	/**
+	 * Maps Customer entity to response DTO.
+	 */
+	@Mapping(target = "gender", source = "gender", qualifiedByName = "genderName")
+	CustomerResponseDto toDto(CustomerModel customer);
 
-	public CustomerMapper(ModelMapper modelMapper) {
-		this.modelMapper = modelMapper;
-		configureMappings();
-	}
+	/**
+	 * Maps request DTO to Customer entity.
+	 */
+	@Mapping(target = "gender", source = "gender", qualifiedByName = "genderValue")
+	CustomerModel toEntity(CustomerRequestDto dto);
 
 	/**
-	 * Configures custom mapping rules for Customer domain.
-	 *
-	 * Gender field mapping is skipped to allow manual
-	 * enum conversion and avoid incorrect automatic mapping.
+	 * Copies non-null request fields onto existing entity.
 	 */
-	private void configureMappings() {
-		modelMapper.typeMap(CustomerRequestDto.class, CustomerModel.class)
-			.addMappings(m -> m.skip(CustomerModel::setGender));
-	}
+	@Mapping(target = "gender", source = "gender", qualifiedByName = "genderValue")
+	void updateEntity(CustomerRequestDto dto, @MappingTarget CustomerModel customer);
 
 	/**
-	 * Maps Customer entity to response DTO.
+	 * Converts gender string → byte.
 	 */
-	public CustomerResponseDto toDto(CustomerModel customer) {
-		if (customer == null) return null;
-		CustomerResponseDto dto = modelMapper.map(customer, CustomerResponseDto.class);
-		dto.setGender(Gender.fromValue(customer.getGender()).name());
-		return dto;
+	@Named("genderValue")
+	default Byte genderValue(String gender) {
+		return Gender.fromString(gender);
 	}
 
 	/**
-	 * Maps request DTO to Customer entity.
+	 * Converts gender byte → enum name.
 	 */
-	public CustomerModel toEntity(CustomerRequestDto dto) {
-		if (dto == null) return null;
-		CustomerModel entity = modelMapper.map(dto, CustomerModel.class);
-
-		// Convert gender string → byte
-		Byte gender = Gender.fromString(dto.getGender());
-		entity.setGender(gender);
-		return entity;
+	@Named("genderName")
+	default String genderName(Byte gender) {
+		Gender value = Gender.fromValue(gender);
+		return value != null ? value.name() : null;
 	}
 
-}
\ No newline at end of file
+}
@@ -3,9 +3,7 @@ package com.multitenant.app.common.mapper;
 import com.multitenant.app.master.dto.request.TenantRequestDto;
 import com.multitenant.app.master.dto.response.TenantResponseDto;
 import com.multitenant.app.master.model.TenantModel;
-import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
 
 /**
  * TenantMapper
@@ -13,27 +11,17 @@ import org.springframework.stereotype.Component;
  * Maps tenant master entity and DTO objects used
  * for tenant registration and management operations.
  */
-@Component
-@AllArgsConstructor
-public class TenantMapper {
-
-	// ModelMapper instance used for object mapping
-	private final ModelMapper modelMapper;
+@Mapper(config = CentralMapperConfig.class)
+public interface TenantMapper {
 
 	/**
 	 * Maps Tenant entity to response DTO.
 	 */
-	public TenantResponseDto toDto(TenantModel tenant) {
-		if (tenant == null) return null;
-		return modelMapper.map(tenant, TenantResponseDto.class);
-	}
+	TenantResponseDto toDto(TenantModel tenant);
 
 	/**
 	 * Maps request DTO to Tenant entity.
 	 */
-	public TenantModel toEntity(TenantRequestDto dto) {
-		if (dto == null) return null;
-		return modelMapper.map(dto, TenantModel.class);
-	}
+	TenantModel toEntity(TenantRequestDto dto);
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.multitenant.app.common.mapper;
+
+import com.multitenant.app.master.dto.response.TenantOnboardingJobResponseDto;
+import com.multitenant.app.master.enums.OnboardingStep;
+import com.multitenant.app.master.model.TenantOnboardingJobModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TenantOnboardingJobMapper
+ *
+ * Maps tenant onboarding job entity to the
+ * status DTO polled by registrants.
+ */
+@Mapper(config = CentralMapperConfig.class)
+public interface TenantOnboardingJobMapper {
+
+	/**
+	 * Maps onboarding job entity to response DTO.
+	 */
+	@Mapping(target = "jobId", source = "id")
+	TenantOnboardingJobResponseDto toDto(TenantOnboardingJobModel job);
+
+	/**
+	 * Splits stored comma separated steps.
+	 */
+	default List<OnboardingStep> toSteps(String completedSteps) {
+		if (completedSteps == null || completedSteps.isEmpty())
+			return List.of();
+		return Arrays.stream(completedSteps.split(","))
+			.map(OnboardingStep::valueOf)
+			.toList();
+	}
+
+}
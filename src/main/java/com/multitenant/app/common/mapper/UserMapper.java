@@ -1,11 +1,11 @@
 package com.multitenant.app.common.mapper;
 
 import com.multitenant.app.tenant.dto.request.UserCreateRequestDto;
+import com.multitenant.app.tenant.dto.request.UserUpdateRequestDto;
 import com.multitenant.app.tenant.dto.response.UserResponseDto;
 import com.multitenant.app.tenant.model.UserModel;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
 
 /**
  * UserMapper
@@ -13,29 +13,22 @@ import org.springframework.stereotype.Component;
  * Maps tenant user entity and DTO objects
  * used for user management operations.
  */
-@Component
-@RequiredArgsConstructor
-public class UserMapper {
-
-	// ModelMapper instance used for object mapping
-	private final ModelMapper modelMapper;
+@Mapper(config = CentralMapperConfig.class)
+public interface UserMapper {
 
 	/**
 	 * Maps User entity to response DTO.
 	 */
-	public UserResponseDto toDto(UserModel user) {
-		if (user == null)
-			return null;
-		return modelMapper.map(user, UserResponseDto.class);
-	}
+	UserResponseDto toDto(UserModel user);
 
 	/**
 	 * Maps request DTO to User entity.
 	 */
-	public UserModel toEntity(UserCreateRequestDto dto) {
-		if (dto == null)
-			return null;
-		return modelMapper.map(dto, UserModel.class);
-	}
+	UserModel toEntity(UserCreateRequestDto dto);
+
+	/**
+	 * Copies non-null request fields onto existing entity.
+	 */
+	void updateEntity(UserUpdateRequestDto dto, @MappingTarget UserModel user);
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.multitenant.app.common.pagination;
+
+import com.multitenant.app.common.exception.BadRequestException;
+
+/**
+ * CountMode
+ *
+ * Controls how paginated listings compute
+ * total element count.
+ */
+public enum CountMode {
+
+	/* No count query, only next page detection */
+	NONE,
+
+	/* Count query on every request */
+	EXACT,
+
+	/* Cached count, invalidated on writes of this node */
+	ESTIMATE;
+
+	/**
+	 * Converts API input string into count mode.
+	 *
+	 * Example:
+	 * none -> NONE
+	 * exact -> EXACT
+	 * estimate -> ESTIMATE
+	 *
+	 * @throws BadRequestException if mode is not supported
+	 */
+	public static CountMode fromString(String input) {
+		if (input == null || input.isBlank())
+			return EXACT;
+		return switch (input.trim().toUpperCase()) {
+			case "NONE" -> NONE;
+			case "EXACT" -> EXACT;
+			case "ESTIMATE" -> ESTIMATE;
+			default -> throw new BadRequestException("Unsupported count mode: " + input);
+		};
+	}
+
+}
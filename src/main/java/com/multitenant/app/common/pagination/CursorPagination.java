@@ -0,0 +1,161 @@
+package com.multitenant.app.common.pagination;
+
+import com.multitenant.app.common.exception.BadRequestException;
+import com.multitenant.app.common.response.CursorPageResponseDto;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * CursorPagination
+ *
+ * Helpers for keyset (cursor) pagination on top of
+ * Spring Data scrolling.
+ *
+ * Listings are ordered by a whitelisted sort field with
+ * the entity id as tie-breaker, and the next page seeks
+ * past the last returned (sort value, id) pair instead of
+ * skipping rows with OFFSET. The position is exposed to
+ * clients as an opaque Base64 cursor, which also carries
+ * the sort direction so it cannot be replayed against
+ * the opposite ordering.
+ *
+ * Sort fields must be non-null columns, otherwise rows
+ * with null values cannot be sought past.
+ */
+public final class CursorPagination {
+
+	/* Tie-breaker property present in every cursor */
+	private static final String ID = "id";
+
+	private CursorPagination() {} // Prevent instantiation
+
+	/**
+	 * Builds sort of whitelisted field with id tie-breaker.
+	 *
+	 * @param sortBy     sorting field
+	 * @param sortDir    sorting direction (asc / desc)
+	 * @param sortFields supported sort fields and their types
+	 * @return sort configuration
+	 */
+	public static Sort sort(String sortBy, String sortDir, Map<String, Class<?>> sortFields) {
+		if (!sortFields.containsKey(sortBy))
+			throw new BadRequestException("Unsupported sort field for cursor pagination: " + sortBy);
+
+		Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+		Sort sort = Sort.by(direction, sortBy);
+		return ID.equals(sortBy) ? sort : sort.and(Sort.by(direction, ID));
+	}
+
+	/**
+	 * Decodes client cursor into scroll position.
+	 *
+	 * @param cursor     opaque cursor (null or blank for first page)
+	 * @param sort       requested sort, built by {@link #sort}
+	 * @param sortFields supported sort fields and their types
+	 * @return keyset scroll position
+	 * @throws BadRequestException if cursor is malformed or issued for another sort
+	 */
+	public static ScrollPosition decode(String cursor, Sort sort, Map<String, Class<?>> sortFields) {
+		if (cursor == null || cursor.isBlank())
+			return ScrollPosition.keyset();
+
+		Sort.Order order = sort.iterator().next();
+		String sortBy = order.getProperty();
+		Map<String, Object> keys = new LinkedHashMap<>();
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+			if (Sort.Direction.fromString(in.readUTF()) != order.getDirection())
+				throw new BadRequestException("Cursor does not match requested sort");
+			int count = in.readUnsignedByte();
+			for (int i = 0; i < count; i++) {
+				String property = in.readUTF();
+				String value = in.readUTF();
+				if (!property.equals(sortBy) && !property.equals(ID))
+					throw new BadRequestException("Cursor does not match requested sort");
+				keys.put(property, parse(value, sortFields.get(property)));
+			}
+		} catch (IOException | IllegalArgumentException | DateTimeException e) {
+			throw new BadRequestException("Invalid cursor");
+		}
+
+		if (!keys.containsKey(sortBy) || !keys.containsKey(ID))
+			throw new BadRequestException("Cursor does not match requested sort");
+		return ScrollPosition.forward(keys);
+	}
+
+	/**
+	 * Builds response of scrolled window, encoding
+	 * position of its last element as next cursor.
+	 *
+	 * @param window   scrolled window of entities
+	 * @param sort     sort window was scrolled by
+	 * @param pageSize requested page size
+	 * @param mapper   entity to DTO mapping
+	 * @return cursor paginated response
+	 */
+	public static <T, R> CursorPageResponseDto<R> toResponse(Window<T> window, Sort sort, int pageSize,
+			Function<T, R> mapper) {
+		List<R> content = window.getContent()
+			.stream()
+			.map(mapper)
+			.toList();
+
+		String nextCursor = window.hasNext() && !window.isEmpty()
+			? encode(sort.iterator().next().getDirection(),
+				((KeysetScrollPosition) window.positionAt(window.size() - 1)).getKeys())
+			: null;
+		return new CursorPageResponseDto<>(content, pageSize, nextCursor, nextCursor != null);
+	}
+
+	/**
+	 * Encodes sort direction and keyset values into
+	 * opaque URL-safe cursor.
+	 */
+	private static String encode(Sort.Direction direction, Map<String, ?> keys) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeUTF(direction.name());
+			out.writeByte(keys.size());
+			for (Map.Entry<String, ?> key : keys.entrySet()) {
+				out.writeUTF(key.getKey());
+				out.writeUTF(String.valueOf(key.getValue()));
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Cursor encoding failed", e);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * Converts cursor value back into sort field type.
+	 */
+	private static Object parse(String value, Class<?> type) {
+		if (type == null || type == String.class)
+			return value;
+		if (type == Long.class)
+			return Long.valueOf(value);
+		if (type == Integer.class)
+			return Integer.valueOf(value);
+		if (type == LocalDate.class)
+			return LocalDate.parse(value);
+		if (type == LocalDateTime.class)
+			return LocalDateTime.parse(value);
+		throw new IllegalArgumentException("Unsupported cursor value type: " + type);
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.multitenant.app.common.pagination;
+
+import com.multitenant.app.config.CatalogSwitchingDataSource;
+import com.multitenant.app.config.TenantDataSourceResolver;
+import com.multitenant.app.context.TenantContext;
+import com.multitenant.app.context.TenantContextTaskDecorator;
+import com.multitenant.app.context.TenantResolution;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * ParallelPageExecutor
+ *
+ * Fetches page content and total count of a paginated
+ * listing concurrently, each on its own connection from
+ * the current tenant pool.
+ *
+ * Count runs on a tenant-context-propagating executor
+ * while content is fetched on the calling thread. Falls
+ * back to the sequential query when parallel execution is
+ * disabled, the executor is saturated, or the tenant pool
+ * is close to exhaustion, so one listing never takes two
+ * connections other requests are waiting for.
+ */
+@Component
+public class ParallelPageExecutor {
+
+	/* Resolves tenant pool when context carries only database name */
+	private final TenantDataSourceResolver dataSourceResolver;
+
+	/* Runs count queries off the request thread */
+	private final ThreadPoolTaskExecutor executor;
+
+	/* Enables parallel content and count queries */
+	private final boolean enabled;
+
+	/* Free connections tenant pool must have for parallel execution */
+	private final int minSpareConnections;
+
+	public ParallelPageExecutor(
+			TenantDataSourceResolver dataSourceResolver,
+			@Value("${pagination.parallel-count.enabled:false}") boolean enabled,
+			@Value("${pagination.parallel-count.threads:8}") int threads,
+			@Value("${pagination.parallel-count.queue-capacity:64}") int queueCapacity,
+			@Value("${pagination.parallel-count.min-spare-connections:2}") int minSpareConnections) {
+		this.dataSourceResolver = dataSourceResolver;
+		this.enabled = enabled;
+		this.minSpareConnections = minSpareConnections;
+
+		this.executor = new ThreadPoolTaskExecutor();
+		this.executor.setCorePoolSize(threads);
+		this.executor.setMaxPoolSize(threads);
+		this.executor.setQueueCapacity(queueCapacity);
+		this.executor.setThreadNamePrefix("page-count-");
+		this.executor.setDaemon(true);
+		this.executor.setTaskDecorator(new TenantContextTaskDecorator());
+		this.executor.initialize();
+	}
+
+	/**
+	 * Fetches page with exact total count.
+	 *
+	 * @param pageable   requested page
+	 * @param sequential page query running content and count in sequence
+	 * @param content    content-only query of requested page
+	 * @param count      count-only query of the listing
+	 * @return page with total count
+	 */
+	public <T> Page<T> findPage(Pageable pageable, Supplier<Page<T>> sequential, Supplier<Slice<T>> content,
+			LongSupplier count) {
+		if (!enabled || !hasSpareConnections())
+			return sequential.get();
+
+		CompletableFuture<Long> total;
+		try {
+			total = CompletableFuture.supplyAsync(count::getAsLong, executor);
+		} catch (TaskRejectedException e) {
+			// Executor saturated, keep latency of sequential path
+			return sequential.get();
+		}
+
+		Slice<T> slice;
+		try {
+			slice = content.get();
+		} catch (RuntimeException e) {
+			total.cancel(false);
+			throw e;
+		}
+
+		try {
+			return new PageImpl<>(slice.getContent(), pageable, total.join());
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause)
+				throw cause;
+			throw e;
+		}
+	}
+
+	/**
+	 * Checks whether current tenant pool can serve one more
+	 * connection without making other requests wait.
+	 */
+	private boolean hasSpareConnections() {
+		TenantResolution tenant = TenantContext.getTenant();
+		if (tenant == null)
+			return false;
+
+		DataSource ds = tenant.getDataSource() != null
+			? tenant.getDataSource()
+			: dataSourceResolver.resolveDataSource(tenant.getDbName());
+		if (ds instanceof CatalogSwitchingDataSource catalogView)
+			ds = catalogView.getTargetDataSource();
+		if (!(ds instanceof HikariDataSource hikari))
+			return false;
+
+		HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+		if (pool == null)
+			return false;
+		int spare = hikari.getMaximumPoolSize() - pool.getActiveConnections();
+		return pool.getThreadsAwaitingConnection() == 0 && spare >= minSpareConnections;
+	}
+
+	/**
+	 * Stops count executor on application shutdown.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+}
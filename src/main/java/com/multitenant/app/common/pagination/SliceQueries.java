@@ -0,0 +1,42 @@
+package com.multitenant.app.common.pagination;
+
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * SliceQueries
+ *
+ * Executes hand-built JPA queries as page slices,
+ * fetching one extra row to detect next page
+ * instead of running a count query.
+ */
+public final class SliceQueries {
+
+	private SliceQueries() {} // Prevent instantiation
+
+	/**
+	 * Fetches requested page of query results.
+	 *
+	 * @param query    query with ordering already applied
+	 * @param pageable requested page
+	 * @return page content with next page flag
+	 */
+	public static <T> Slice<T> slice(TypedQuery<T> query, Pageable pageable) {
+		if (pageable.isUnpaged())
+			return new SliceImpl<>(query.getResultList(), pageable, false);
+
+		int size = pageable.getPageSize();
+		List<T> rows = query
+			.setFirstResult((int) pageable.getOffset())
+			.setMaxResults(size + 1)
+			.getResultList();
+
+		boolean hasNext = rows.size() > size;
+		return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+	}
+
+}
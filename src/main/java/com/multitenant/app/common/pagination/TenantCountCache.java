@@ -0,0 +1,76 @@
+package com.multitenant.app.common.pagination;
+
+import com.multitenant.app.common.cache.BoundedCache;
+import com.multitenant.app.common.cache.TenantCacheGenerations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * TenantCountCache
+ *
+ * Size-bounded cache of listing counts keyed by
+ * (tenant database, resource, normalized filter).
+ *
+ * Each tenant resource has a generation number that is
+ * part of the key; writes bump the generation, so every
+ * cached count (and cached listing page) of that resource
+ * is invalidated at once without scanning the cache.
+ * Stale generations age out through LRU eviction and TTL.
+ *
+ * Must be called with TenantContext set.
+ */
+@Component
+public class TenantCountCache {
+
+	/* Cached counts keyed by tenant, resource, generation and filter */
+	private final BoundedCache<String, Long> counts;
+
+	/* Generations shared with listing result cache */
+	private final TenantCacheGenerations generations;
+
+	public TenantCountCache(
+			TenantCacheGenerations generations,
+			@Value("${pagination.count-cache.max-size:10000}") int maxSize,
+			@Value("${pagination.count-cache.ttl-ms:60000}") long ttlMillis) {
+		this.generations = generations;
+		this.counts = new BoundedCache<>(maxSize, ttlMillis);
+	}
+
+	/**
+	 * Returns cached count or computes and caches it.
+	 *
+	 * @param resource listed resource name
+	 * @param filter   filter applied to the listing (null for none)
+	 * @param counter  runs the count query on a miss
+	 * @return total element count
+	 */
+	public long get(String resource, String filter, LongSupplier counter) {
+		String key = generations.scope(resource) + ":" + normalize(filter);
+
+		Long cached = counts.get(key);
+		if (cached != null)
+			return cached;
+
+		long count = counter.getAsLong();
+		counts.put(key, count);
+		return count;
+	}
+
+	/**
+	 * Invalidates all cached counts and listing
+	 * pages of resource in current tenant.
+	 *
+	 * @param resource listed resource name
+	 */
+	public void invalidate(String resource) {
+		generations.bump(resource);
+	}
+
+	/* Same filter in different case or spacing shares a count */
+	private String normalize(String filter) {
+		return filter == null ? "" : filter.trim().toLowerCase();
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.multitenant.app.common.pagination;
+
+import com.multitenant.app.common.cache.BoundedCache;
+import com.multitenant.app.common.cache.TenantCacheGenerations;
+import com.multitenant.app.common.response.PageResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * TenantPageCache
+ *
+ * Memory-bounded cache of listing responses keyed by
+ * (tenant database, resource, generation, query key).
+ *
+ * Shares generations with TenantCountCache: every write
+ * that invalidates a resource's counts also invalidates
+ * its cached pages in O(1), so reads after a write on this
+ * node never see stale pages. Other nodes may serve a page
+ * cached before the write until it expires.
+ *
+ * Cached responses are shared between requests and must
+ * not be modified by callers.
+ *
+ * Must be called with TenantContext set.
+ */
+@Component
+public class TenantPageCache {
+
+	/* Cached pages with their estimated size, null when disabled */
+	private final BoundedCache<String, Weighted> pages;
+
+	/* Generations shared with count cache */
+	private final TenantCacheGenerations generations;
+
+	public TenantPageCache(
+			TenantCacheGenerations generations,
+			@Value("${pagination.page-cache.enabled:true}") boolean enabled,
+			@Value("${pagination.page-cache.max-size:10000}") int maxSize,
+			@Value("${pagination.page-cache.max-bytes:33554432}") long maxBytes,
+			@Value("${pagination.page-cache.ttl-ms:30000}") long ttlMillis) {
+		this.generations = generations;
+		this.pages = enabled ? new BoundedCache<>(maxSize, maxBytes, Weighted::bytes, ttlMillis) : null;
+	}
+
+	/**
+	 * Returns cached page or loads and caches it.
+	 *
+	 * Generation is read before loading, so a page loaded
+	 * while a write commits is cached under the old
+	 * generation and never served after the write.
+	 *
+	 * @param resource listed resource name
+	 * @param query    normalized query key (filters, page, size, sort)
+	 * @param loader   runs listing queries on a miss
+	 * @param sizer    estimates page size in bytes
+	 * @return listing page
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> PageResponseDto<T> get(String resource, String query, Supplier<PageResponseDto<T>> loader,
+			ToLongFunction<PageResponseDto<T>> sizer) {
+		if (pages == null)
+			return loader.get();
+
+		String key = generations.scope(resource) + ":" + query;
+		Weighted cached = pages.get(key);
+		if (cached != null)
+			return (PageResponseDto<T>) cached.page;
+
+		PageResponseDto<T> page = loader.get();
+		pages.put(key, new Weighted(page, sizer.applyAsLong(page) + key.length() * 2L));
+		return page;
+	}
+
+	/* Cached page with its estimated size */
+	private static final class Weighted {
+
+		private final PageResponseDto<?> page;
+
+		private final long bytes;
+
+		private Weighted(PageResponseDto<?> page, long bytes) {
+			this.page = page;
+			this.bytes = bytes;
+		}
+
+		private long bytes() {
+			return bytes;
+		}
+
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.multitenant.app.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * CursorPageResponseDto
+ *
+ * Generic response DTO used to return cursor (keyset)
+ * paginated API results.
+ *
+ * Carries an opaque cursor for the next page instead of
+ * page numbers and totals, so no count query is needed.
+ *
+ * @param <T> type of elements in the paginated response
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CursorPageResponseDto<T> {
+
+	/* Data records for the current page */
+	private List<T> content;
+
+	/* Number of records requested per page */
+	private int pageSize;
+
+	/* Cursor of the next page (null on last page) */
+	private String nextCursor;
+
+	/* Indicates if next page exists */
+	private boolean hasNext;
+
+}
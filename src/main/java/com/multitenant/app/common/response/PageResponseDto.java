@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -13,6 +14,9 @@ import java.util.List;
  * Generic response DTO used to return paginated API results.
  * Contains pagination metadata along with the actual data content.
  *
+ * Totals are null when the listing was served without
+ * counting (see CountMode).
+ *
  * @param <T> type of elements in the paginated response
  */
 @NoArgsConstructor
@@ -30,11 +34,11 @@ public class PageResponseDto<T> {
 	/* Number of records per page */
 	private int pageSize;
 
-	/* Total number of records available */
-	private long totalElements;
+	/* Total number of records available (null when not counted) */
+	private Long totalElements;
 
-	/* Total number of pages */
-	private int totalPages;
+	/* Total number of pages (null when not counted) */
+	private Integer totalPages;
 
 	/* Indicates if next page exists */
 	private boolean hasNext;
@@ -42,4 +46,27 @@ public class PageResponseDto<T> {
 	/* Indicates if previous page exists */
 	private boolean hasPrevious;
 
+	/**
+	 * Builds response from fetched slice and optional total count.
+	 *
+	 * @param slice         fetched page or slice
+	 * @param content       mapped records of the slice
+	 * @param totalElements total record count (null when not counted)
+	 * @return paginated response
+	 */
+	public static <T> PageResponseDto<T> of(Slice<?> slice, List<T> content, Long totalElements) {
+		int size = Math.max(slice.getSize(), 1);
+		Integer totalPages = totalElements == null
+			? null
+			: (int) ((totalElements + size - 1) / size);
+		return new PageResponseDto<>(
+			content,
+			slice.getNumber(),
+			slice.getSize(),
+			totalElements,
+			totalPages,
+			slice.hasNext(),
+			slice.hasPrevious());
+	}
+
 }
\ No newline at end of file
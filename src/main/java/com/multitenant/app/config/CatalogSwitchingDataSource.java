@@ -0,0 +1,66 @@
+package com.multitenant.app.config;
+
+import lombok.Getter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * CatalogSwitchingDataSource
+ *
+ * Tenant view over a connection pool shared by all tenant
+ * databases of one MySQL host.
+ *
+ * Every checked out connection is switched to the tenant
+ * catalog before it is handed out. The shared pool resets the
+ * catalog to its neutral default when the connection is
+ * returned, so an idle connection never points at a tenant.
+ */
+public class CatalogSwitchingDataSource extends DelegatingDataSource {
+
+	/* Tenant database selected on every checkout */
+	@Getter
+	private final String catalog;
+
+	public CatalogSwitchingDataSource(DataSource sharedPool, String catalog) {
+		super(sharedPool);
+		this.catalog = catalog;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Switches connection to tenant catalog.
+	 */
+	@Override
+	public Connection getConnection() throws SQLException {
+		return switchCatalog(obtainTargetDataSource().getConnection());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Switches connection to tenant catalog.
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return switchCatalog(obtainTargetDataSource().getConnection(username, password));
+	}
+
+	/**
+	 * Selects tenant catalog, releasing connection on failure
+	 * so it is never used against the wrong database.
+	 */
+	private Connection switchCatalog(Connection connection) throws SQLException {
+		try {
+			connection.setCatalog(catalog);
+			return connection;
+		} catch (SQLException | RuntimeException e) {
+			connection.close();
+			throw e;
+		}
+	}
+
+}
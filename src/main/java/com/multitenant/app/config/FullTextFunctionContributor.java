@@ -0,0 +1,36 @@
+package com.multitenant.app.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * FullTextFunctionContributor
+ *
+ * Registers MySQL full-text search function for use
+ * in JPA criteria and specifications.
+ *
+ * "customer_match(firstName, lastName, email, mobile,
+ * address1, address2, term)" renders MATCH ... AGAINST in
+ * boolean mode over the customer search index columns;
+ * column list must match the FULLTEXT index exactly.
+ *
+ * Discovered by Hibernate through META-INF/services.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+	/* Function name used by specifications */
+	public static final String CUSTOMER_MATCH = "customer_match";
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		functionContributions.getFunctionRegistry().registerPattern(
+			CUSTOMER_MATCH,
+			"match(?1, ?2, ?3, ?4, ?5, ?6) against(?7 in boolean mode)",
+			functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+	}
+
+}
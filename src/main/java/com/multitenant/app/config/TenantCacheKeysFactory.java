@@ -0,0 +1,140 @@
+package com.multitenant.app.config;
+
+import com.multitenant.app.context.TenantContext;
+import org.hibernate.cache.internal.CacheKeyImplementation;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * TenantCacheKeysFactory
+ *
+ * Builds second-level cache keys that include the
+ * current tenant cache key (tenant database, plus tenant
+ * ID for pooled tenants sharing that database).
+ *
+ * Tenant databases are selected by routing DataSource
+ * rather than Hibernate multi-tenancy, so sessions carry
+ * no tenant identifier, and in Hibernate connection mode
+ * the identifier names only the database; without the
+ * tenant cache key, the same entity ID in two tenants
+ * would share one cache entry. The key from TenantContext
+ * fills the identifier, and natural-id and query result
+ * keys are wrapped with it.
+ */
+public class TenantCacheKeysFactory implements CacheKeysFactory {
+
+	/* Shared stateless instance */
+	public static final TenantCacheKeysFactory INSTANCE = new TenantCacheKeysFactory();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object createCollectionKey(Object id, CollectionPersister persister, SessionFactoryImplementor factory,
+			String tenantIdentifier) {
+		return DefaultCacheKeysFactory.staticCreateCollectionKey(id, persister, factory, tenant(tenantIdentifier));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object createEntityKey(Object id, EntityPersister persister, SessionFactoryImplementor factory,
+			String tenantIdentifier) {
+		return DefaultCacheKeysFactory.staticCreateEntityKey(id, persister, factory, tenant(tenantIdentifier));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object createNaturalIdKey(Object naturalIdValues, EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		return new TenantScopedKey(tenant(null),
+				DefaultCacheKeysFactory.staticCreateNaturalIdKey(naturalIdValues, persister, session));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getEntityId(Object cacheKey) {
+		return DefaultCacheKeysFactory.staticGetEntityId(cacheKey);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getCollectionId(Object cacheKey) {
+		return DefaultCacheKeysFactory.staticGetCollectionId(cacheKey);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getNaturalIdValues(Object cacheKey) {
+		Object key = cacheKey instanceof TenantScopedKey tenantKey ? tenantKey.key : cacheKey;
+		return DefaultCacheKeysFactory.staticGetNaturalIdValues(key);
+	}
+
+	/**
+	 * Wraps query result cache key with current tenant
+	 * cache key, so results can be evicted per tenant.
+	 */
+	public static Object createQueryKey(Object queryKey) {
+		return new TenantScopedKey(tenant(null), queryKey);
+	}
+
+	/**
+	 * Returns tenant cache key owning given cache key,
+	 * or null for keys created without tenant context.
+	 */
+	public static String tenantOf(Object cacheKey) {
+		if (cacheKey instanceof TenantScopedKey tenantKey)
+			return tenantKey.tenant;
+		if (cacheKey instanceof CacheKeyImplementation key)
+			return key.getTenantId();
+		return null;
+	}
+
+	private static String tenant(String tenantIdentifier) {
+		String tenantKey = TenantContext.getTenantKey();
+		return tenantKey != null ? tenantKey : tenantIdentifier;
+	}
+
+	/* Natural-id or query result cache key scoped to tenant */
+	private static final class TenantScopedKey implements Serializable {
+
+		private final String tenant;
+
+		private final Object key;
+
+		private TenantScopedKey(String tenant, Object key) {
+			this.tenant = tenant;
+			this.key = key;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof TenantScopedKey that
+					&& Objects.equals(tenant, that.tenant)
+					&& key.equals(that.key);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Objects.hashCode(tenant) + key.hashCode();
+		}
+
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.multitenant.app.config;
+
+/**
+ * TenantCacheRegions
+ *
+ * Second-level cache region names of tenant
+ * persistence unit.
+ *
+ * Entity regions are shared by all tenants, their keys
+ * carry the tenant cache key (see TenantCacheKeysFactory).
+ * Query results share one bounded region; cacheable
+ * queries bind the tenant cache key as a parameter, which
+ * is part of the query cache key, so results are never
+ * answered across tenants and the number of regions does
+ * not grow with the number of tenants. Query keys are
+ * also wrapped with the tenant cache key (see
+ * TenantQueryCacheAccess) so they can be evicted per tenant.
+ */
+public final class TenantCacheRegions {
+
+	/* Customer entity region */
+	public static final String CUSTOMERS = "tenant.customers";
+
+	/* User entity region */
+	public static final String USERS = "tenant.users";
+
+	/* Query result region */
+	public static final String QUERY = "tenant.query";
+
+	/* Query parameter holding tenant cache key */
+	public static final String TENANT_PARAMETER = "cacheTenant";
+
+	private TenantCacheRegions() {} // Prevent instantiation
+
+}
@@ -0,0 +1,101 @@
+package com.multitenant.app.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TenantCacheStatistics
+ *
+ * Hit, miss and put counts of second-level cache regions
+ * kept per tenant, so a tenant only ever sees its own
+ * cache activity.
+ *
+ * Counters of at most maxTenants recently active tenants
+ * are kept; counts of a tenant evicted for inactivity
+ * restart from zero. Recording is lock-free, it runs on
+ * every cache access.
+ */
+public class TenantCacheStatistics {
+
+	/* Region counters by tenant cache key */
+	private final Cache<String, Map<String, RegionCounters>> tenants;
+
+	public TenantCacheStatistics(long maxTenants) {
+		this.tenants = Caffeine.newBuilder().maximumSize(maxTenants).build();
+	}
+
+	/**
+	 * Records lookup of tenant in region.
+	 *
+	 * @param tenantKey tenant cache key (ignored when null)
+	 * @param region    cache region name
+	 * @param hit       whether lookup was answered from cache
+	 */
+	public void recordGet(String tenantKey, String region, boolean hit) {
+		RegionCounters counters = counters(tenantKey, region);
+		if (counters != null)
+			(hit ? counters.hits : counters.misses).increment();
+	}
+
+	/**
+	 * Records entry of tenant stored into region.
+	 *
+	 * @param tenantKey tenant cache key (ignored when null)
+	 * @param region    cache region name
+	 */
+	public void recordPut(String tenantKey, String region) {
+		RegionCounters counters = counters(tenantKey, region);
+		if (counters != null)
+			counters.puts.increment();
+	}
+
+	/**
+	 * Returns counters of tenant by region name,
+	 * empty when tenant has no cache activity.
+	 *
+	 * @param tenantKey tenant cache key
+	 */
+	public Map<String, RegionCounters> get(String tenantKey) {
+		Map<String, RegionCounters> regions = tenants.getIfPresent(tenantKey);
+		return regions != null ? Map.copyOf(regions) : Map.of();
+	}
+
+	private RegionCounters counters(String tenantKey, String region) {
+		if (tenantKey == null)
+			return null;
+		return tenants.get(tenantKey, key -> new ConcurrentHashMap<>())
+			.computeIfAbsent(region, name -> new RegionCounters());
+	}
+
+	/**
+	 * RegionCounters
+	 *
+	 * Counters of one tenant in one region.
+	 */
+	public static final class RegionCounters {
+
+		private final LongAdder hits = new LongAdder();
+
+		private final LongAdder misses = new LongAdder();
+
+		private final LongAdder puts = new LongAdder();
+
+		public long getHitCount() {
+			return hits.sum();
+		}
+
+		public long getMissCount() {
+			return misses.sum();
+		}
+
+		public long getPutCount() {
+			return puts.sum();
+		}
+
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.multitenant.app.config;
+
+/**
+ * TenantConnectionMode
+ *
+ * Defines how tenant persistence unit obtains
+ * tenant database connections.
+ */
+public enum TenantConnectionMode {
+
+	/* Routing DataSource selects tenant pool from TenantContext on every checkout */
+	ROUTING,
+
+	/* Hibernate multi-tenancy binds each session to its tenant when opened */
+	HIBERNATE
+
+}
@@ -0,0 +1,122 @@
+package com.multitenant.app.config;
+
+import com.multitenant.app.common.exception.TenantUnavailableException;
+import com.multitenant.app.context.TenantContext;
+import com.multitenant.app.context.TenantResolution;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * TenantConnectionProvider
+ *
+ * Hibernate multi-tenant connection provider backed
+ * by TenantDataSourceResolver.
+ *
+ * Connections are taken for the tenant identifier the
+ * session was opened with, not for whatever TenantContext
+ * holds at checkout time. Pools are the same as in routing
+ * mode, so in SHARED_HOST pooling mode small tenants share
+ * one host pool and are served through catalog switching.
+ */
+public class TenantConnectionProvider implements MultiTenantConnectionProvider<String> {
+
+	/* Serves sessions without tenant context */
+	private final DataSource masterDataSource;
+
+	/* Resolves tenant database to its pool */
+	private final TenantDataSourceResolver resolver;
+
+	public TenantConnectionProvider(DataSource masterDataSource, TenantDataSourceResolver resolver) {
+		this.masterDataSource = masterDataSource;
+		this.resolver = resolver;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Used by Hibernate for metadata access on startup.
+	 */
+	@Override
+	public Connection getAnyConnection() throws SQLException {
+		return masterDataSource.getConnection();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void releaseAnyConnection(Connection connection) throws SQLException {
+		connection.close();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Connection getConnection(String tenantIdentifier) throws SQLException {
+		if (TenantIdentifierResolver.MASTER.equals(tenantIdentifier))
+			return masterDataSource.getConnection();
+		return dataSource(tenantIdentifier).getConnection();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+		connection.close();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Connections are held for the whole session,
+	 * like in routing mode.
+	 */
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isUnwrappableAs(Class<?> unwrapType) {
+		return unwrapType.isInstance(this);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> T unwrap(Class<T> unwrapType) {
+		if (unwrapType.isInstance(this))
+			return unwrapType.cast(this);
+		throw new IllegalArgumentException("Cannot unwrap to " + unwrapType);
+	}
+
+	/**
+	 * Returns pool of tenant, reusing the one resolved for
+	 * current request while it belongs to the same tenant
+	 * and is still open.
+	 */
+	private DataSource dataSource(String tenantDb) {
+		TenantResolution tenant = TenantContext.getTenant();
+		if (tenant != null && tenantDb.equals(tenant.getDbName())) {
+			DataSource ds = tenant.getDataSource();
+			if (ds != null && !(ds instanceof HikariDataSource hikari && hikari.isClosed()))
+				return ds;
+		}
+
+		DataSource ds = resolver.resolveDataSource(tenantDb);
+		if (ds == null)
+			throw new TenantUnavailableException("No connection pool for tenant database " + tenantDb);
+		return ds;
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.multitenant.app.config;
+
+import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import javax.cache.Cache;
+
+/**
+ * TenantCountingCacheAccess
+ *
+ * JCache entity region access recording hits, misses
+ * and puts under the tenant carried by each cache key.
+ */
+class TenantCountingCacheAccess extends JCacheAccessImpl {
+
+	/* Region name counters are recorded under */
+	private final String region;
+
+	/* Per-tenant counters */
+	private final TenantCacheStatistics statistics;
+
+	TenantCountingCacheAccess(Cache<Object, Object> cache, String region, TenantCacheStatistics statistics) {
+		super(cache);
+		this.region = region;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		Object value = super.getFromCache(key, session);
+		statistics.recordGet(TenantCacheKeysFactory.tenantOf(key), region, value != null);
+		return value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		super.putIntoCache(key, value, session);
+		statistics.recordPut(TenantCacheKeysFactory.tenantOf(key), region);
+	}
+
+}
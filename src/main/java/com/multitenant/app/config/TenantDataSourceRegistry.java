@@ -0,0 +1,177 @@
+package com.multitenant.app.config;
+
+import com.multitenant.app.common.cache.BoundedCache;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * TenantDataSourceRegistry
+ *
+ * Bounded registry of live tenant connection pools.
+ *
+ * Keeps at most a configured number of pools, evicting the
+ * least recently used pool when full and any pool that has
+ * not been requested within the idle timeout.
+ *
+ * Evicted Hikari pools are retired rather than closed at once:
+ * idle connections are released immediately and the pool is
+ * closed once in-flight connections are returned (or the
+ * drain timeout elapses).
+ */
+@Component
+public class TenantDataSourceRegistry {
+
+	/* Live pools keyed by tenant database name */
+	private final BoundedCache<String, DataSource> pools;
+
+	/* Evicted pools waiting for in-flight connections to drain */
+	private final Queue<RetiredPool> retiredPools = new ConcurrentLinkedQueue<>();
+
+	/* Maximum time to wait for in-flight connections before closing */
+	private final long drainTimeoutMillis;
+
+	public TenantDataSourceRegistry(
+			@Value("${tenant.datasource.max-pools:200}") int maxPools,
+			@Value("${tenant.datasource.pool-idle-timeout-ms:600000}") long idleTimeoutMillis,
+			@Value("${tenant.datasource.pool-drain-timeout-ms:30000}") long drainTimeoutMillis) {
+		this.pools = new BoundedCache<>(maxPools, idleTimeoutMillis, true, (dbName, dataSource) -> retire(dataSource));
+		this.drainTimeoutMillis = drainTimeoutMillis;
+	}
+
+	/**
+	 * Returns registered pool or null when absent.
+	 */
+	public DataSource get(String dbName) {
+		return pools.get(dbName);
+	}
+
+	/**
+	 * Registers newly created pool.
+	 *
+	 * When another caller registered a pool for the same
+	 * database first, the given pool is retired and the
+	 * existing one is returned instead.
+	 */
+	public DataSource register(String dbName, DataSource dataSource) {
+		DataSource existing = pools.putIfAbsent(dbName, dataSource);
+		if (existing == null)
+			return dataSource;
+		retire(dataSource);
+		return existing;
+	}
+
+	/**
+	 * Removes and retires pool of given tenant database.
+	 */
+	public void evict(String dbName) {
+		pools.invalidate(dbName);
+	}
+
+	/**
+	 * Periodically evicts idle pools and closes drained ones.
+	 */
+	@Scheduled(fixedDelayString = "${tenant.datasource.eviction-interval-ms:30000}")
+	public void evictIdlePools() {
+		pools.evictExpired();
+		closeDrainedPools(false);
+	}
+
+	/**
+	 * Closes every pool on application shutdown.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		pools.clear();
+		closeDrainedPools(true);
+	}
+
+	/**
+	 * Returns number of live pools.
+	 */
+	public int getPoolCount() {
+		return pools.size();
+	}
+
+	/**
+	 * Returns number of evicted pools still draining.
+	 */
+	public int getRetiredPoolCount() {
+		return retiredPools.size();
+	}
+
+	/**
+	 * Returns number of requests served by an existing pool.
+	 */
+	public long getHitCount() {
+		return pools.getHitCount();
+	}
+
+	/**
+	 * Returns number of requests that required a pool to be created.
+	 */
+	public long getMissCount() {
+		return pools.getMissCount();
+	}
+
+	/**
+	 * Returns number of pools evicted due to size limit or idle timeout.
+	 */
+	public long getEvictionCount() {
+		return pools.getEvictionCount();
+	}
+
+	/**
+	 * Stops handing out idle connections of evicted pool
+	 * and queues it for closing.
+	 */
+	private void retire(DataSource dataSource) {
+		if (!(dataSource instanceof HikariDataSource hikari) || hikari.isClosed())
+			return;
+		HikariPoolMXBean poolBean = hikari.getHikariPoolMXBean();
+		if (poolBean != null)
+			poolBean.softEvictConnections();
+		retiredPools.add(new RetiredPool(hikari, System.currentTimeMillis()));
+	}
+
+	/**
+	 * Closes retired pools without active connections,
+	 * or all retired pools when forced.
+	 */
+	private void closeDrainedPools(boolean force) {
+		long now = System.currentTimeMillis();
+		Iterator<RetiredPool> iterator = retiredPools.iterator();
+		while (iterator.hasNext()) {
+			RetiredPool retired = iterator.next();
+			HikariPoolMXBean poolBean = retired.dataSource.getHikariPoolMXBean();
+			boolean drained = poolBean == null || poolBean.getActiveConnections() == 0;
+			if (force || drained || now - retired.retiredAt >= drainTimeoutMillis) {
+				iterator.remove();
+				retired.dataSource.close();
+			}
+		}
+	}
+
+	/* Evicted pool with its retirement timestamp */
+	private static final class RetiredPool {
+
+		private final HikariDataSource dataSource;
+
+		private final long retiredAt;
+
+		private RetiredPool(HikariDataSource dataSource, long retiredAt) {
+			this.dataSource = dataSource;
+			this.retiredAt = retiredAt;
+		}
+
+	}
+
+}
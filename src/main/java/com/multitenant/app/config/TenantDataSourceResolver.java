@@ -1,14 +1,28 @@
 package com.multitenant.app.config;
 
+import com.multitenant.app.common.exception.TenantUnavailableException;
+import com.multitenant.app.master.dto.response.TenantDbConfigResponseDto;
+import com.multitenant.app.master.enums.TenantTier;
 import com.multitenant.app.master.service.TenantDbConfigService;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * TenantDataSourceResolver
@@ -16,55 +30,316 @@ import java.util.Map;
  * Resolves tenant database DataSource using
  * tenant configuration provided by service layer.
  *
- * Uses in-memory cache to reuse connection pools
+ * Uses bounded pool registry to reuse connection pools
  * and avoid repeated DataSource creation.
+ *
+ * Pool creation is single-flight: one builder runs per
+ * tenant on a dedicated executor while concurrent callers
+ * for that tenant wait on the same future. Creation never
+ * holds a lock shared with other tenants, and failures are
+ * retried with exponential backoff instead of being cached.
+ *
+ * In SHARED_HOST pooling mode tenants on the same host and
+ * credentials share one fixed-size pool, and each tenant is
+ * served through a catalog switching view of that pool.
  */
 @Component
-@RequiredArgsConstructor
 public class TenantDataSourceResolver {
 
 	/* Service used to fetch tenant database configuration */
 	private final TenantDbConfigService tenantDbConfigService;
 
-	/* Cache to store DataSource per tenant database */
-	private final Map<String, DataSource> cache = new ConcurrentHashMap<>();
+	/* Bounded registry of live tenant pools */
+	private final TenantDataSourceRegistry registry;
+
+	/* In-flight pool creations keyed by tenant database name */
+	private final Map<String, CompletableFuture<DataSource>> pendingCreations = new ConcurrentHashMap<>();
+
+	/* Recent creation failures keyed by tenant database name */
+	private final Map<String, CreationFailure> creationFailures = new ConcurrentHashMap<>();
+
+	/* Runs pool creation outside request threads */
+	private final ThreadPoolExecutor creationExecutor;
+
+	/* Maximum time a caller waits for pool creation */
+	private final long creationTimeoutMillis;
+
+	/* First retry delay after a failed creation */
+	private final long retryBackoffMillis;
+
+	/* Upper bound of retry delay */
+	private final long maxRetryBackoffMillis;
+
+	/* Pool per tenant database or shared pool per host */
+	private final TenantPoolingMode poolingMode;
+
+	/* Shared pools, completed or in creation, keyed by host, port and username */
+	private final Map<String, CompletableFuture<HikariDataSource>> sharedPools = new ConcurrentHashMap<>();
+
+	/* Maximum connections of each shared host pool */
+	private final int sharedPoolSize;
+
+	/* Neutral catalog restored when shared connections are returned */
+	private final String sharedPoolIdleCatalog;
+
+	public TenantDataSourceResolver(
+			TenantDbConfigService tenantDbConfigService,
+			TenantDataSourceRegistry registry,
+			@Value("${tenant.datasource.creation-threads:4}") int creationThreads,
+			@Value("${tenant.datasource.creation-timeout-ms:10000}") long creationTimeoutMillis,
+			@Value("${tenant.datasource.retry-backoff-ms:1000}") long retryBackoffMillis,
+			@Value("${tenant.datasource.max-retry-backoff-ms:60000}") long maxRetryBackoffMillis,
+			@Value("${tenant.datasource.pooling-mode:per-database}") TenantPoolingMode poolingMode,
+			@Value("${tenant.datasource.shared-pool-size:20}") int sharedPoolSize,
+			@Value("${tenant.datasource.shared-pool-idle-catalog:information_schema}") String sharedPoolIdleCatalog) {
+		this.tenantDbConfigService = tenantDbConfigService;
+		this.registry = registry;
+		this.creationTimeoutMillis = creationTimeoutMillis;
+		this.retryBackoffMillis = retryBackoffMillis;
+		this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+		this.poolingMode = poolingMode;
+		this.sharedPoolSize = sharedPoolSize;
+		this.sharedPoolIdleCatalog = sharedPoolIdleCatalog;
+
+		AtomicInteger threadCount = new AtomicInteger();
+		this.creationExecutor = new ThreadPoolExecutor(
+			creationThreads, creationThreads, 60, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(creationThreads * 64),
+			runnable -> {
+				Thread thread = new Thread(runnable, "tenant-ds-create-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		this.creationExecutor.allowCoreThreadTimeOut(true);
+	}
 
 	/**
 	 * Resolves tenant DataSource by database name.
 	 *
-	 * Uses cache if available, otherwise creates
-	 * a new DataSource and stores it.
+	 * Uses registry if available, otherwise waits for
+	 * the single in-flight creation of that tenant pool.
 	 */
 	public DataSource resolveDataSource(String dbName) {
 		if (dbName == null || dbName.isBlank())
 			return null;
-		return cache.computeIfAbsent(dbName, this::createDataSourceForDb);
+		DataSource dataSource = registry.get(dbName);
+		if (dataSource != null)
+			return dataSource;
+		return awaitCreation(dbName, pendingCreation(dbName));
+	}
+
+	/**
+	 * Opens and registers pool of database not recorded in
+	 * tenant configuration yet, such as a warm database
+	 * being provisioned, so routing by its name finds it.
+	 *
+	 * @param config connection settings of the database
+	 * @return registered pool, existing one when already open
+	 */
+	public DataSource registerDataSource(TenantDbConfigResponseDto config) {
+		DataSource dataSource = registry.get(config.getDbName());
+		if (dataSource != null)
+			return dataSource;
+		return registry.register(config.getDbName(), createDataSource(config));
+	}
+
+	/**
+	 * Stops pool creation workers and closes shared
+	 * host pools on application shutdown.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		creationExecutor.shutdownNow();
+		sharedPools.values().forEach(pool -> pool.thenAccept(HikariDataSource::close));
+		sharedPools.clear();
+	}
+
+	/**
+	 * Returns in-flight creation future, starting a new
+	 * creation when none is running for the tenant.
+	 */
+	private CompletableFuture<DataSource> pendingCreation(String dbName) {
+		CompletableFuture<DataSource> created = new CompletableFuture<>();
+		CompletableFuture<DataSource> existing = pendingCreations.putIfAbsent(dbName, created);
+		if (existing != null)
+			return existing;
+
+		// Creation finished and unregistered itself after our registry miss
+		DataSource registered = registry.get(dbName);
+		if (registered != null) {
+			pendingCreations.remove(dbName, created);
+			created.complete(registered);
+			return created;
+		}
+
+		// Fail fast while previous failure is still backing off
+		CreationFailure failure = creationFailures.get(dbName);
+		if (failure != null && failure.retryAt > System.currentTimeMillis()) {
+			pendingCreations.remove(dbName, created);
+			created.completeExceptionally(new TenantUnavailableException("Tenant database is temporarily unavailable"));
+			return created;
+		}
+
+		try {
+			creationExecutor.execute(() -> createAndRegister(dbName, created));
+		} catch (RejectedExecutionException e) {
+			pendingCreations.remove(dbName, created);
+			created.completeExceptionally(new TenantUnavailableException("Tenant database pool creation queue is full", e));
+		}
+		return created;
+	}
+
+	/**
+	 * Builds tenant pool and publishes result to waiting callers.
+	 *
+	 * The creation is unregistered before callers are released,
+	 * so later callers see the registered pool or the recorded
+	 * failure rather than this finished future.
+	 */
+	private void createAndRegister(String dbName, CompletableFuture<DataSource> created) {
+		try {
+			DataSource dataSource = registry.register(dbName, createDataSourceForDb(dbName));
+			creationFailures.remove(dbName);
+			pendingCreations.remove(dbName, created);
+			created.complete(dataSource);
+		} catch (Exception e) {
+			creationFailures.compute(dbName, (key, previous) -> nextFailure(previous));
+			pendingCreations.remove(dbName, created);
+			created.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Waits for pool creation within configured timeout.
+	 */
+	private DataSource awaitCreation(String dbName, CompletableFuture<DataSource> created) {
+		try {
+			return created.get(creationTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw new TenantUnavailableException("Timed out waiting for tenant database " + dbName, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TenantUnavailableException("Interrupted while waiting for tenant database " + dbName, e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause)
+				throw cause;
+			throw new TenantUnavailableException("Failed to create tenant database pool for " + dbName, e.getCause());
+		}
+	}
+
+	/**
+	 * Records failed attempt and computes next retry time.
+	 */
+	private CreationFailure nextFailure(CreationFailure previous) {
+		int attempts = previous == null ? 1 : previous.attempts + 1;
+		long backoff = Math.min(retryBackoffMillis << Math.min(attempts - 1, 20), maxRetryBackoffMillis);
+		return new CreationFailure(attempts, System.currentTimeMillis() + backoff);
 	}
 
 	/**
 	 * Creates DataSource using tenant database configuration.
 	 *
-	 * Called only once per tenant and cached for reuse.
+	 * Called once per tenant until its pool is evicted.
 	 */
 	private DataSource createDataSourceForDb(String dbName) {
 		// Fetch tenant DB configuration via service layer
-		var config = tenantDbConfigService.getDbConfigByDbName(dbName);
+		return createDataSource(tenantDbConfigService.getDbConfigByDbName(dbName));
+	}
+
+	/**
+	 * Creates DataSource of given database configuration.
+	 */
+	private DataSource createDataSource(TenantDbConfigResponseDto config) {
+		int port = config.getDbPort() != null ? config.getDbPort() : 3306;
+
+		// Serve tenant through its host pool in shared mode
+		if (poolingMode == TenantPoolingMode.SHARED_HOST) {
+			HikariDataSource sharedPool = sharedPool(config.getDbHost() + ":" + port + ":" + config.getDbUsername(),
+				() -> createPool("tenant-shared-" + config.getDbHost() + "-" + port,
+					jdbcUrl(config.getDbHost(), port, ""), config.getDbUsername(), config.getDbPassword(),
+					sharedPoolSize, sharedPoolIdleCatalog));
+			return new CatalogSwitchingDataSource(sharedPool, config.getDbName());
+		}
+
+		// Pooled database serves many tenants, size it like a shared pool
+		return createPool("tenant-" + config.getDbName(),
+			jdbcUrl(config.getDbHost(), port, config.getDbName()), config.getDbUsername(), config.getDbPassword(),
+			config.getTier() == TenantTier.POOLED ? sharedPoolSize : 5, null);
+	}
+
+	/**
+	 * Returns shared host pool, building it once.
+	 *
+	 * Single-flight like tenant pools: the first caller builds
+	 * the pool outside any map lock while concurrent callers
+	 * for the same host wait on its future. Failed creations
+	 * are removed so the next caller retries.
+	 */
+	private HikariDataSource sharedPool(String key, Supplier<HikariDataSource> factory) {
+		CompletableFuture<HikariDataSource> created = new CompletableFuture<>();
+		CompletableFuture<HikariDataSource> existing = sharedPools.putIfAbsent(key, created);
+		if (existing != null) {
+			try {
+				return existing.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause)
+					throw cause;
+				throw e;
+			}
+		}
 
-		// Configure Hikari connection pool
+		try {
+			HikariDataSource pool = factory.get();
+			created.complete(pool);
+			return pool;
+		} catch (RuntimeException e) {
+			sharedPools.remove(key, created);
+			created.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Builds MySQL JDBC URL for given host and database.
+	 */
+	private String jdbcUrl(String host, int port, String dbName) {
+		return String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC&rewriteBatchedStatements=true", host, port, dbName);
+	}
+
+	/**
+	 * Configures Hikari connection pool.
+	 *
+	 * Protected so tests can supply pools without a server.
+	 *
+	 * @param catalog default catalog restored on connection return (optional)
+	 */
+	protected HikariDataSource createPool(String poolName, String jdbcUrl, String username, String password,
+			int maximumPoolSize, String catalog) {
 		HikariConfig hikari = new HikariConfig();
-		hikari.setJdbcUrl(String.format(
-			"jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC",
-			config.getDbHost(),
-			config.getDbPort() != null ? config.getDbPort() : 3306,
-			config.getDbName()
-		));
-
-		hikari.setUsername(config.getDbUsername());
-		hikari.setPassword(config.getDbPassword());
+		hikari.setPoolName(poolName);
+		hikari.setJdbcUrl(jdbcUrl);
+		hikari.setUsername(username);
+		hikari.setPassword(password);
 		hikari.setDriverClassName("com.mysql.cj.jdbc.Driver");
-		hikari.setMaximumPoolSize(5);
+		hikari.setMaximumPoolSize(maximumPoolSize);
 		hikari.setMinimumIdle(1);
+		if (catalog != null)
+			hikari.setCatalog(catalog);
 		return new HikariDataSource(hikari);
 	}
 
-}
\ No newline at end of file
+	/* Failed creation attempts and earliest retry time */
+	private static final class CreationFailure {
+
+		private final int attempts;
+
+		private final long retryAt;
+
+		private CreationFailure(int attempts, long retryAt) {
+			this.attempts = attempts;
+			this.retryAt = retryAt;
+		}
+
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.multitenant.app.config;
+
+import com.multitenant.app.context.TenantContext;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * TenantIdentifierResolver
+ *
+ * Supplies tenant database of current request as
+ * Hibernate tenant identifier when a session opens.
+ *
+ * Sessions opened without tenant context (startup and
+ * background work) are bound to MASTER, mirroring the
+ * routing DataSource fallback.
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+	/* Tenant identifier of sessions without tenant context */
+	public static final String MASTER = "";
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String resolveCurrentTenantIdentifier() {
+		String tenantDb = TenantContext.getTenantDb();
+		return tenantDb != null ? tenantDb : MASTER;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Rejects reusing a current session under another tenant.
+	 */
+	@Override
+	public boolean validateExistingCurrentSessions() {
+		return true;
+	}
+
+}
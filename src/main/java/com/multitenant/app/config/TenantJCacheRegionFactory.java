@@ -0,0 +1,154 @@
+package com.multitenant.app.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.cache.Cache;
+import javax.cache.CacheException;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TenantJCacheRegionFactory
+ *
+ * JCache region factory creating size-bounded Caffeine
+ * caches for tenant second-level cache regions.
+ *
+ * Entity regions hold up to "tenant.cache.entity-max-entries"
+ * entries and the shared query region up to
+ * "tenant.cache.query-max-entries"; both expire entries
+ * after "tenant.cache.ttl-ms". The update timestamps region
+ * is never bounded, evicting it could serve stale queries.
+ *
+ * Query result keys are scoped to the current tenant
+ * (see TenantQueryCacheAccess). With "tenant.cache.statistics"
+ * enabled, entity and query region accesses are counted
+ * per tenant (see TenantCacheStatistics).
+ */
+public class TenantJCacheRegionFactory extends JCacheRegionFactory {
+
+	/* Maximum entries of each entity region */
+	public static final String ENTITY_MAX_ENTRIES = "tenant.cache.entity-max-entries";
+
+	/* Maximum entries of shared query region */
+	public static final String QUERY_MAX_ENTRIES = "tenant.cache.query-max-entries";
+
+	/* Entry lifetime in milliseconds */
+	public static final String TTL_MS = "tenant.cache.ttl-ms";
+
+	/* Enables per-tenant hit, miss and put counts */
+	public static final String STATISTICS = "tenant.cache.statistics";
+
+	/* Tenants whose counts are kept */
+	public static final String STATISTICS_MAX_TENANTS = "tenant.cache.statistics-max-tenants";
+
+	private long entityMaxEntries = 10000;
+
+	private long queryMaxEntries = 10000;
+
+	private long ttlMillis = 600000;
+
+	/* Per-tenant counters, null when statistics are disabled */
+	private TenantCacheStatistics statistics;
+
+	public TenantJCacheRegionFactory() {
+		super(TenantCacheKeysFactory.INSTANCE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		entityMaxEntries = longSetting(configValues, ENTITY_MAX_ENTRIES, entityMaxEntries);
+		queryMaxEntries = longSetting(configValues, QUERY_MAX_ENTRIES, queryMaxEntries);
+		ttlMillis = longSetting(configValues, TTL_MS, ttlMillis);
+		if (Boolean.parseBoolean(String.valueOf(configValues.getOrDefault(STATISTICS, "false"))))
+			statistics = new TenantCacheStatistics(longSetting(configValues, STATISTICS_MAX_TENANTS, 10000));
+		super.prepareForUse(settings, configValues);
+	}
+
+	/**
+	 * Returns per-tenant counters, null when statistics are disabled.
+	 */
+	public TenantCacheStatistics getTenantStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		DomainDataStorageAccess access = super.createDomainDataStorageAccess(regionConfig, buildingContext);
+		return counting(access, regionConfig.getRegionName());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		StorageAccess access = super.createQueryResultsRegionStorageAccess(regionName, sessionFactory);
+		if (!(access instanceof JCacheAccessImpl jcache))
+			return access;
+		return new TenantQueryCacheAccess(underlyingCache(jcache), regionName, statistics);
+	}
+
+	/* Wraps region access to count accesses per tenant */
+	private DomainDataStorageAccess counting(DomainDataStorageAccess access, String regionName) {
+		if (statistics == null || !(access instanceof JCacheAccessImpl jcache))
+			return access;
+		return new TenantCountingCacheAccess(underlyingCache(jcache), regionName, statistics);
+	}
+
+	/* JCacheAccessImpl is built from a Cache<Object, Object> but returns it as raw type */
+	@SuppressWarnings("unchecked")
+	private static Cache<Object, Object> underlyingCache(JCacheAccessImpl access) {
+		return access.getUnderlyingCache();
+	}
+
+	/**
+	 * Creates missing region cache with its size limit.
+	 */
+	@Override
+	protected Cache<Object, Object> createCache(String regionName) {
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setStoreByValue(false);
+		configuration.setStatisticsEnabled(true);
+		if (!RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME.equals(regionName)) {
+			configuration.setMaximumSize(OptionalLong.of(regionName.equals(TenantCacheRegions.QUERY)
+					? queryMaxEntries
+					: entityMaxEntries));
+			if (ttlMillis > 0)
+				configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMillis)));
+		}
+
+		try {
+			return getCacheManager().createCache(regionName, configuration);
+		} catch (CacheException e) {
+			// Region created concurrently by another session
+			Cache<Object, Object> existing = getCacheManager().getCache(regionName);
+			if (existing == null)
+				throw e;
+			return existing;
+		}
+	}
+
+	private static long longSetting(Map<String, Object> configValues, String name, long defaultValue) {
+		Object value = configValues.get(name);
+		return value != null ? Long.parseLong(value.toString()) : defaultValue;
+	}
+
+}
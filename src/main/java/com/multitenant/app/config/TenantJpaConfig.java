@@ -1,16 +1,21 @@
 package com.multitenant.app.config;
 
 import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 
 import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * TenantJpaConfig
@@ -32,17 +37,56 @@ public class TenantJpaConfig {
 	 *
 	 * Uses TenantRoutingDataSource to support
 	 * runtime tenant database switching.
+	 *
+	 * In HIBERNATE connection mode sessions are bound to the
+	 * tenant of TenantContext when opened and take connections
+	 * through TenantConnectionProvider instead of routing.
+	 *
+	 * Enables second-level entity and query caching for
+	 * entities marked @Cacheable, with entity and query cache
+	 * keys partitioned by tenant.
 	 */
 	@Primary
 	@Bean(name = "tenantEntityManagerFactory")
 	public LocalContainerEntityManagerFactoryBean tenantEntityManagerFactory(
 			EntityManagerFactoryBuilder builder,
-			@Qualifier("tenantRoutingDataSource") DataSource dataSource) {
+			@Qualifier("tenantRoutingDataSource") DataSource dataSource,
+			@Qualifier("masterDataSource") DataSource masterDataSource,
+			@Lazy TenantDataSourceResolver resolver,
+			@Value("${tenant.datasource.connection-mode:routing}") TenantConnectionMode connectionMode,
+			@Value("${tenant.cache.enabled:true}") boolean cacheEnabled,
+			@Value("${tenant.cache.entity-max-entries:10000}") long entityMaxEntries,
+			@Value("${tenant.cache.query-max-entries:10000}") long queryMaxEntries,
+			@Value("${tenant.cache.ttl-ms:600000}") long cacheTtlMillis,
+			@Value("${tenant.cache.statistics:true}") boolean cacheStatistics,
+			@Value("${tenant.cache.statistics-max-tenants:10000}") long statisticsMaxTenants) {
+
+		Map<String, Object> properties = new HashMap<>();
+		if (connectionMode == TenantConnectionMode.HIBERNATE) {
+			properties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER,
+				new TenantConnectionProvider(masterDataSource, resolver));
+			properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new TenantIdentifierResolver());
+		}
+		properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, cacheEnabled);
+		properties.put(AvailableSettings.USE_QUERY_CACHE, cacheEnabled);
+		if (cacheEnabled) {
+			properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE");
+			properties.put(AvailableSettings.CACHE_REGION_FACTORY, TenantJCacheRegionFactory.class.getName());
+			properties.put("hibernate.javax.cache.provider",
+				"com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+			properties.put("hibernate.javax.cache.missing_cache_strategy", "create");
+			properties.put(TenantJCacheRegionFactory.ENTITY_MAX_ENTRIES, entityMaxEntries);
+			properties.put(TenantJCacheRegionFactory.QUERY_MAX_ENTRIES, queryMaxEntries);
+			properties.put(TenantJCacheRegionFactory.TTL_MS, cacheTtlMillis);
+			properties.put(TenantJCacheRegionFactory.STATISTICS, cacheStatistics);
+			properties.put(TenantJCacheRegionFactory.STATISTICS_MAX_TENANTS, statisticsMaxTenants);
+		}
 
 		return builder
 			.dataSource(dataSource)
 			.packages("com.multitenant.app.tenant.model")
 			.persistenceUnit("tenantPU")
+			.properties(properties)
 			.build();
 	}
 
@@ -0,0 +1,16 @@
+package com.multitenant.app.config;
+
+/**
+ * TenantPoolingMode
+ *
+ * Defines how tenant database connections are pooled.
+ */
+public enum TenantPoolingMode {
+
+	/* Dedicated connection pool for every tenant database */
+	PER_DATABASE,
+
+	/* One pool per (host, port, user), catalog switched per tenant */
+	SHARED_HOST
+
+}
@@ -0,0 +1,82 @@
+package com.multitenant.app.config;
+
+import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import javax.cache.Cache;
+
+/**
+ * TenantQueryCacheAccess
+ *
+ * JCache access of the shared query result region that
+ * wraps every key with the current tenant cache key.
+ *
+ * Query keys carry the tenant only as a bound parameter,
+ * which cannot be read back; wrapped keys let eviction
+ * drop the query results of one tenant, and keep results
+ * apart even for queries binding no tenant parameter.
+ * Accesses are counted per tenant when statistics are
+ * enabled.
+ */
+class TenantQueryCacheAccess extends JCacheAccessImpl {
+
+	/* Region name counters are recorded under */
+	private final String region;
+
+	/* Per-tenant counters, null when statistics are disabled */
+	private final TenantCacheStatistics statistics;
+
+	TenantQueryCacheAccess(Cache<Object, Object> cache, String region, TenantCacheStatistics statistics) {
+		super(cache);
+		this.region = region;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(Object key) {
+		return super.contains(TenantCacheKeysFactory.createQueryKey(key));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		Object tenantKey = TenantCacheKeysFactory.createQueryKey(key);
+		Object value = super.getFromCache(tenantKey, session);
+		if (statistics != null)
+			statistics.recordGet(TenantCacheKeysFactory.tenantOf(tenantKey), region, value != null);
+		return value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		Object tenantKey = TenantCacheKeysFactory.createQueryKey(key);
+		super.putIntoCache(tenantKey, value, session);
+		if (statistics != null)
+			statistics.recordPut(TenantCacheKeysFactory.tenantOf(tenantKey), region);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		super.removeFromCache(TenantCacheKeysFactory.createQueryKey(key), session);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evictData(Object key) {
+		super.evictData(TenantCacheKeysFactory.createQueryKey(key));
+	}
+
+}
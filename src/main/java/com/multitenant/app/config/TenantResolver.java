@@ -0,0 +1,64 @@
+package com.multitenant.app.config;
+
+import com.multitenant.app.context.TenantResolution;
+import com.multitenant.app.master.service.TenantLookupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * TenantResolver
+ *
+ * Resolves a company code into tenant identity and
+ * database name, and attaches the tenant DataSource
+ * used by routing once the request is authenticated.
+ *
+ * Resolving identity never opens a pool, so requests
+ * that are not authenticated cannot make the node build
+ * pools of arbitrary tenants.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantResolver {
+
+	/* Resolves tenant database configuration using company code */
+	private final TenantLookupService tenantLookupService;
+
+	/* Resolves tenant database to actual DataSource */
+	private final TenantDataSourceResolver dataSourceResolver;
+
+	/**
+	 * Resolves tenant of given company code from cached
+	 * tenant configuration, leaving DataSource to routing.
+	 *
+	 * @param companyCode unique tenant company code
+	 * @return resolved tenant without DataSource
+	 */
+	public TenantResolution resolve(String companyCode) {
+		var config = tenantLookupService.findTenantDatabase(companyCode);
+		return new TenantResolution(
+			config.getTenantId(),
+			companyCode,
+			config.getDbName(),
+			null,
+			config.getTier());
+	}
+
+	/**
+	 * Returns resolved tenant carrying its DataSource,
+	 * creating the tenant pool when not open yet.
+	 *
+	 * @param tenant resolved tenant of authenticated request
+	 * @return resolved tenant with DataSource
+	 */
+	public TenantResolution withDataSource(TenantResolution tenant) {
+		if (tenant.getDataSource() != null)
+			return tenant;
+		return new TenantResolution(
+			tenant.getTenantId(),
+			tenant.getCompanyCode(),
+			tenant.getDbName(),
+			dataSourceResolver.resolveDataSource(tenant.getDbName()),
+			tenant.getTier());
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.multitenant.app.config;
 
 import com.multitenant.app.context.TenantContext;
+import com.multitenant.app.context.TenantResolution;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.NonNull;
 import lombok.Setter;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
@@ -16,6 +18,11 @@ import javax.sql.DataSource;
  * Uses TenantContext to determine which
  * tenant database should be used
  * for the current request.
+ *
+ * Requests resolved by the tenant filters already carry
+ * their DataSource, so routing is a plain context read;
+ * the resolver is only consulted when the context holds
+ * just a database name or its pool has since been closed.
  */
 @Setter
 public class TenantRoutingDataSource extends AbstractRoutingDataSource {
@@ -43,12 +50,19 @@ public class TenantRoutingDataSource extends AbstractRoutingDataSource {
 	@Override
 	@NonNull
 	protected DataSource determineTargetDataSource() {
-		Object lookupKey = determineCurrentLookupKey();
-		// Resolve tenant datasource if tenant context exists
-		if (lookupKey != null && resolver != null) {
-			DataSource ds = resolver.resolveDataSource(lookupKey.toString());
-			if (ds != null)
+		TenantResolution tenant = TenantContext.getTenant();
+		if (tenant != null) {
+			// Use DataSource resolved for this request while still open
+			DataSource ds = tenant.getDataSource();
+			if (ds != null && !(ds instanceof HikariDataSource hikari && hikari.isClosed()))
 				return ds;
+
+			// Resolve tenant datasource by database name
+			if (resolver != null) {
+				ds = resolver.resolveDataSource(tenant.getDbName());
+				if (ds != null)
+					return ds;
+			}
 		}
 		// Fallback to master datasource
 		return super.determineTargetDataSource();
@@ -0,0 +1,46 @@
+package com.multitenant.app.config;
+
+import com.multitenant.app.context.TenantContext;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * TenantRowFilter
+ *
+ * Hibernate filter restricting tenant entities to rows
+ * of the current tenant.
+ *
+ * Defined in tenant model package-info and enabled in
+ * every session; its parameter is read from TenantContext
+ * when a statement is built. Applies to queries, loads by
+ * ID and bulk updates and deletes alike. Without a tenant
+ * ID in context the filter cannot be bound, so tenant
+ * entities are never read unfiltered.
+ */
+public final class TenantRowFilter {
+
+	/* Filter name */
+	public static final String NAME = "tenantFilter";
+
+	/* Tenant ID parameter */
+	public static final String PARAMETER = "tenantId";
+
+	private TenantRowFilter() {} // Prevent instantiation
+
+	/**
+	 * Supplies tenant ID parameter from TenantContext.
+	 */
+	public static class CurrentTenantId implements Supplier<UUID> {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public UUID get() {
+			return TenantContext.getTenantId();
+		}
+
+	}
+
+}
@@ -1,28 +1,48 @@
 package com.multitenant.app.context;
 
+import java.util.UUID;
+
 /**
  * TenantContext
  *
- * Stores tenant-specific database identifier for the
- * current request thread using ThreadLocal.
+ * Stores tenant resolution for the current
+ * request thread using ThreadLocal.
  *
  * This context enables dynamic datasource routing and
  * ensures tenant data isolation during request processing.
  */
 public final class TenantContext {
 
-	// Thread-local storage for current tenant database name
-	private static final ThreadLocal<String> CURRENT_TENANT_DB = new ThreadLocal<>();
+	// Thread-local storage for current tenant resolution
+	private static final ThreadLocal<TenantResolution> CURRENT_TENANT = new ThreadLocal<>();
 
 	private TenantContext() {} // Prevent instantiation
 
+	/**
+	 * Sets resolved tenant for the current request.
+	 *
+	 * @param tenant resolved tenant
+	 */
+	public static void setTenant(TenantResolution tenant) {
+		CURRENT_TENANT.set(tenant);
+	}
+
+	/**
+	 * Returns resolved tenant for the current request.
+	 *
+	 * @return resolved tenant or null when not set
+	 */
+	public static TenantResolution getTenant() {
+		return CURRENT_TENANT.get();
+	}
+
 	/**
 	 * Sets tenant database name for the current request.
 	 *
 	 * @param dbName resolved tenant database name
 	 */
 	public static void setTenantDb(String dbName) {
-		CURRENT_TENANT_DB.set(dbName);
+		CURRENT_TENANT.set(dbName != null ? TenantResolution.ofDatabase(dbName) : null);
 	}
 
 	/**
@@ -31,7 +51,29 @@ public final class TenantContext {
 	 * @return tenant database name
 	 */
 	public static String getTenantDb() {
-		return CURRENT_TENANT_DB.get();
+		TenantResolution tenant = CURRENT_TENANT.get();
+		return tenant != null ? tenant.getDbName() : null;
+	}
+
+	/**
+	 * Returns tenant ID for the current request.
+	 *
+	 * @return tenant ID or null when only database is known
+	 */
+	public static UUID getTenantId() {
+		TenantResolution tenant = CURRENT_TENANT.get();
+		return tenant != null ? tenant.getTenantId() : null;
+	}
+
+	/**
+	 * Returns key partitioning per-tenant caches for the
+	 * current request (see TenantResolution.getCacheKey).
+	 *
+	 * @return tenant cache key or null when not set
+	 */
+	public static String getTenantKey() {
+		TenantResolution tenant = CURRENT_TENANT.get();
+		return tenant != null ? tenant.getCacheKey() : null;
 	}
 
 	/**
@@ -41,7 +83,7 @@ public final class TenantContext {
 	 * cross-tenant data access issues.
 	 */
 	public static void clear() {
-		CURRENT_TENANT_DB.remove();
+		CURRENT_TENANT.remove();
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.multitenant.app.context;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * TenantContextTaskDecorator
+ *
+ * Propagates tenant resolution of the submitting thread
+ * to tasks executed on worker threads, so tenant routing
+ * stays correct outside the request thread.
+ *
+ * Worker context is always cleared after the task to
+ * avoid leaking tenants between pooled threads.
+ */
+public class TenantContextTaskDecorator implements TaskDecorator {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Runnable decorate(Runnable runnable) {
+		TenantResolution tenant = TenantContext.getTenant();
+		return () -> {
+			TenantContext.setTenant(tenant);
+			try {
+				runnable.run();
+			} finally {
+				TenantContext.clear();
+			}
+		};
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.multitenant.app.context;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * TenantIds
+ *
+ * Converts tenant IDs into the BINARY(16) form stored
+ * in tenant_id columns, for statements written in JDBC.
+ *
+ * Uses the byte order Hibernate writes for UUID
+ * attributes, so rows inserted either way match the
+ * tenant row filter.
+ */
+public final class TenantIds {
+
+	private TenantIds() {} // Prevent instantiation
+
+	/**
+	 * Returns BINARY(16) form of tenant ID.
+	 */
+	public static byte[] toBytes(UUID tenantId) {
+		return ByteBuffer.allocate(16)
+			.putLong(tenantId.getMostSignificantBits())
+			.putLong(tenantId.getLeastSignificantBits())
+			.array();
+	}
+
+	/**
+	 * Returns BINARY(16) form of current tenant ID.
+	 *
+	 * @throws IllegalStateException if tenant ID is not known
+	 */
+	public static byte[] current() {
+		UUID tenantId = TenantContext.getTenantId();
+		if (tenantId == null)
+			throw new IllegalStateException("Tenant ID not set in tenant context");
+		return toBytes(tenantId);
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.multitenant.app.context;
+
+import com.multitenant.app.master.enums.TenantTier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * TenantResolution
+ *
+ * Immutable result of resolving the tenant of a request.
+ *
+ * Holds tenant identity together with the already resolved
+ * DataSource so that routing does not need to look the
+ * tenant database up again on every connection request.
+ *
+ * Tenants of POOLED tier share their database, so their
+ * data and cache entries are told apart by tenant ID.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class TenantResolution {
+
+	/* Tenant identifier (null when only database is known) */
+	private final UUID tenantId;
+
+	/* Tenant company code (null when only database is known) */
+	private final String companyCode;
+
+	/* Tenant database name */
+	private final String dbName;
+
+	/* Resolved tenant DataSource (null when resolved lazily by routing) */
+	private final DataSource dataSource;
+
+	/* Tenant tier (DEDICATED when only database is known) */
+	private final TenantTier tier;
+
+	/**
+	 * Creates resolution carrying only database name,
+	 * leaving DataSource resolution to routing.
+	 */
+	public static TenantResolution ofDatabase(String dbName) {
+		return new TenantResolution(null, null, dbName, null, TenantTier.DEDICATED);
+	}
+
+	/**
+	 * Creates resolution of known tenant without DataSource,
+	 * leaving DataSource resolution to routing.
+	 */
+	public static TenantResolution of(UUID tenantId, String dbName, TenantTier tier) {
+		return new TenantResolution(tenantId, null, dbName, null, tier);
+	}
+
+	/**
+	 * Returns key partitioning per-tenant caches: database
+	 * name of dedicated tenants, database name and tenant ID
+	 * of pooled tenants sharing that database.
+	 */
+	public String getCacheKey() {
+		return tier == TenantTier.POOLED ? dbName + "/" + tenantId : dbName;
+	}
+
+}
@@ -1,10 +1,11 @@
 package com.multitenant.app.filter;
 
+import com.multitenant.app.config.TenantResolver;
 import com.multitenant.app.context.TenantContext;
-import com.multitenant.app.master.service.TenantLookupService;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -13,21 +14,29 @@ import java.io.IOException;
  * TenantResolverFilter
  *
  * Intercepts incoming HTTP requests and resolves
- * tenant database identifier using request header.
+ * tenant using request header.
  *
- * This filter executes before controller processing
- * and sets tenant context for dynamic datasource routing.
+ * This filter executes before the security filter chain
+ * and stores the resolved tenant in TenantContext, so
+ * authentication can verify that the token belongs to the
+ * same tenant. Only cached tenant configuration is read
+ * here; the tenant DataSource is attached after
+ * authentication or resolved lazily by routing.
  */
 @Component
+@Order(TenantResolverFilter.ORDER)
 @RequiredArgsConstructor
 public class TenantResolverFilter implements Filter {
 
-	// Service used to fetch tenant database configuration
-	private final TenantLookupService tenantLookupService;
+	/* Runs ahead of Spring Security filter chain (order -100) */
+	public static final int ORDER = -200;
+
+	// Resolves tenant identity
+	private final TenantResolver tenantResolver;
 
 	/**
-	 * Resolves tenant information and stores tenant database
-	 * identifier in TenantContext for the current request.
+	 * Resolves tenant information and stores it
+	 * in TenantContext for the current request.
 	 */
 	@Override
 	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -38,11 +47,8 @@ public class TenantResolverFilter implements Filter {
 
 		try{
 			if (companyCode != null && !companyCode.isBlank()) {
-				var config = tenantLookupService.findTenantDatabase(companyCode);
-				if (config == null)
-					throw new RuntimeException("Invalid tenant code");
-				// Set tenant database for routing
-				TenantContext.setTenantDb(config.getDbName());
+				// Set resolved tenant for routing
+				TenantContext.setTenant(tenantResolver.resolve(companyCode));
 			}
 			// Continue filter chain
 			chain.doFilter(request, response);
@@ -52,4 +58,4 @@ public class TenantResolverFilter implements Filter {
 		}
 	}
 
-}
\ No newline at end of file
+}
@@ -2,15 +2,21 @@ package com.multitenant.app.master.controller;
 
 import com.multitenant.app.common.constants.api.path.TenantAdminApiPath;
 import com.multitenant.app.master.dto.request.TenantRegisterRequestDto;
+import com.multitenant.app.master.dto.response.TenantOnboardingJobResponseDto;
 import com.multitenant.app.master.service.TenantOnboardingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
 
 /**
  * TenantAdminController
@@ -30,16 +36,30 @@ public class TenantAdminController {
 	private final TenantOnboardingService tenantOnboardingService;
 
 	/**
-	 * Registers a new tenant and provisions required
-	 * tenant-specific resources.
+	 * Registers a new tenant and queues provisioning of
+	 * required tenant-specific resources.
 	 *
 	 * @param request tenant registration request payload
-	 * @return HTTP 201 (Created) on successful registration
+	 * @return HTTP 202 (Accepted) with onboarding job, located by Location header
 	 */
 	@PostMapping(TenantAdminApiPath.REGISTER)
-	public ResponseEntity<Void> RegisterTenant(@Valid @RequestBody TenantRegisterRequestDto request) {
-		tenantOnboardingService.onboardTenant(request);
-		return ResponseEntity.status(HttpStatus.CREATED).build();
+	public ResponseEntity<TenantOnboardingJobResponseDto> RegisterTenant(@Valid @RequestBody TenantRegisterRequestDto request) {
+		TenantOnboardingJobResponseDto job = tenantOnboardingService.submitOnboarding(request);
+		URI location = UriComponentsBuilder.fromPath(TenantAdminApiPath.BASE + TenantAdminApiPath.ONBOARDING_JOB)
+			.buildAndExpand(job.getJobId())
+			.toUri();
+		return ResponseEntity.accepted().location(location).body(job);
+	}
+
+	/**
+	 * Retrieves progress of tenant onboarding job.
+	 *
+	 * @param jobId onboarding job identifier
+	 * @return onboarding job status
+	 */
+	@GetMapping(TenantAdminApiPath.ONBOARDING_JOB)
+	public ResponseEntity<TenantOnboardingJobResponseDto> getOnboardingJob(@PathVariable UUID jobId) {
+		return ResponseEntity.ok(tenantOnboardingService.getOnboardingJob(jobId));
 	}
 
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.multitenant.app.master.dto.request;
 
+import com.multitenant.app.master.enums.TenantTier;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -20,6 +21,9 @@ public class TenantDbConfigRequestDto {
 	@NotBlank
 	private String dbName;
 
+	@NotNull
+	private TenantTier tier;
+
 	@NotBlank
 	private String dbHost;
 
@@ -44,4 +44,7 @@ public class TenantRegisterRequestDto {
 	@Size(min = 8, max = 50, message = "Admin password must be between 8 and 50 characters.")
 	private String adminPassword;
 
+	/* dedicated or pooled, configured default when absent */
+	private String tier;
+
 }
\ No newline at end of file
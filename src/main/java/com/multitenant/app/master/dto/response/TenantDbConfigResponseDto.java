@@ -1,5 +1,6 @@
 package com.multitenant.app.master.dto.response;
 
+import com.multitenant.app.master.enums.TenantTier;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,6 +27,8 @@ public class TenantDbConfigResponseDto {
 
 	private String dbName;
 
+	private TenantTier tier;
+
 	private String dbHost;
 
 	private Integer dbPort;
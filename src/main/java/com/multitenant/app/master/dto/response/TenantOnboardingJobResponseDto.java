@@ -0,0 +1,44 @@
+package com.multitenant.app.master.dto.response;
+
+import com.multitenant.app.master.enums.OnboardingJobStatus;
+import com.multitenant.app.master.enums.OnboardingStep;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * TenantOnboardingJobResponseDto
+ *
+ * Response DTO representing progress of an
+ * asynchronous tenant onboarding job.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TenantOnboardingJobResponseDto {
+
+	private UUID jobId;
+
+	private UUID tenantId;
+
+	private String companyCode;
+
+	private OnboardingJobStatus status;
+
+	private OnboardingStep currentStep;
+
+	private List<OnboardingStep> completedSteps;
+
+	private String errorMessage;
+
+	private LocalDateTime createdAt;
+
+	private LocalDateTime updatedAt;
+
+}
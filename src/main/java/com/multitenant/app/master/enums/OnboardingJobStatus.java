@@ -0,0 +1,22 @@
+package com.multitenant.app.master.enums;
+
+/**
+ * OnboardingJobStatus
+ *
+ * Lifecycle state of a tenant onboarding job.
+ */
+public enum OnboardingJobStatus {
+
+	/* Accepted, waiting for a worker */
+	PENDING,
+
+	/* Steps being executed */
+	RUNNING,
+
+	/* Tenant provisioned, admin can log in */
+	COMPLETED,
+
+	/* A step failed, tenant record was removed */
+	FAILED
+
+}
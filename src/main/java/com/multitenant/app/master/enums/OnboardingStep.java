@@ -0,0 +1,32 @@
+package com.multitenant.app.master.enums;
+
+/**
+ * OnboardingStep
+ *
+ * Steps of tenant onboarding, in the order they
+ * complete when nothing runs concurrently.
+ *
+ * HASH_PASSWORD runs alongside the database steps,
+ * CREATE_ADMIN_USER waits for both.
+ */
+public enum OnboardingStep {
+
+	/* Tenant master record */
+	CREATE_TENANT,
+
+	/* Admin password encryption */
+	HASH_PASSWORD,
+
+	/* Physical tenant database */
+	CREATE_DATABASE,
+
+	/* Tenant database configuration in master */
+	SAVE_DB_CONFIG,
+
+	/* Tenant tables and indexes */
+	CREATE_SCHEMA,
+
+	/* Default tenant admin user */
+	CREATE_ADMIN_USER
+
+}
@@ -0,0 +1,39 @@
+package com.multitenant.app.master.enums;
+
+import com.multitenant.app.common.exception.BadRequestException;
+
+/**
+ * TenantTier
+ *
+ * Defines where tenant data is stored.
+ */
+public enum TenantTier {
+
+	/* Own database and connection pool */
+	DEDICATED,
+
+	/* Rows in shared pooled database, isolated by tenant_id column */
+	POOLED;
+
+	/**
+	 * Converts API input string into tenant tier.
+	 *
+	 * Example:
+	 * dedicated -> DEDICATED
+	 * pooled -> POOLED
+	 *
+	 * @param input        requested tier
+	 * @param defaultValue tier used when input is empty
+	 * @throws BadRequestException if tier is not supported
+	 */
+	public static TenantTier fromString(String input, TenantTier defaultValue) {
+		if (input == null || input.isBlank())
+			return defaultValue;
+		return switch (input.trim().toUpperCase()) {
+			case "DEDICATED" -> DEDICATED;
+			case "POOLED" -> POOLED;
+			default -> throw new BadRequestException("Unsupported tenant tier: " + input);
+		};
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.multitenant.app.master.model;
 
+import com.multitenant.app.master.enums.TenantTier;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,6 +20,9 @@ import java.time.LocalDateTime;
  *
  * Used by dynamic routing datasource to resolve
  * tenant-specific database connections at runtime.
+ *
+ * Tenants of POOLED tier share one database, so several
+ * configurations can name the same database.
  */
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,9 +42,13 @@ public class TenantDbConfigModel {
 	@JoinColumn(name = "tenant_id", nullable = false, unique = true)
 	private TenantModel tenant;
 
-	@Column(name = "db_name", nullable = false, unique = true)
+	@Column(name = "db_name", nullable = false)
 	private String dbName;
 
+	@Enumerated(EnumType.STRING)
+	@Column(name = "tier", nullable = false, length = 20)
+	private TenantTier tier;
+
 	@Column(name = "db_host", nullable = false)
 	private String dbHost;
 
@@ -0,0 +1,75 @@
+package com.multitenant.app.master.model;
+
+import com.multitenant.app.master.enums.OnboardingJobStatus;
+import com.multitenant.app.master.enums.OnboardingStep;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * TenantOnboardingJobModel
+ *
+ * Entity representing an asynchronous tenant onboarding
+ * job stored in the master database.
+ *
+ * Records step-level progress so registrants can poll
+ * status. Registration payload (admin password included)
+ * is never stored here.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "tenant_onboarding_jobs")
+@DynamicUpdate
+public class TenantOnboardingJobModel {
+
+	@Id
+	@GeneratedValue
+	@Column(nullable = false, updatable = false)
+	private UUID id;
+
+	@Column(name = "tenant_id")
+	private UUID tenantId;
+
+	@Column(name = "company_code", nullable = false, length = 50)
+	private String companyCode;
+
+	/* Warm pool database claimed by the job, null when none */
+	@Column(name = "warm_db_name", length = 150)
+	private String warmDbName;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private OnboardingJobStatus status;
+
+	/* Step running or failed, null when none */
+	@Enumerated(EnumType.STRING)
+	@Column(name = "current_step", length = 30)
+	private OnboardingStep currentStep;
+
+	/* Comma separated completed steps */
+	@Column(name = "completed_steps", nullable = false)
+	private String completedSteps;
+
+	@Column(name = "error_message", length = 500)
+	private String errorMessage;
+
+	@CreationTimestamp
+	@Column(name = "created_at", updatable = false)
+	private LocalDateTime createdAt;
+
+	@UpdateTimestamp
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+}
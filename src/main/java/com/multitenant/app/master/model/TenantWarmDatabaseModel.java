@@ -0,0 +1,41 @@
+package com.multitenant.app.master.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * TenantWarmDatabaseModel
+ *
+ * Entity representing an empty tenant database created
+ * ahead of registration, stored in the master database.
+ *
+ * A row exists only once database and schema are ready;
+ * claiming the database deletes the row.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "tenant_warm_databases")
+public class TenantWarmDatabaseModel {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(nullable = false, updatable = false)
+	private Long id;
+
+	@Column(name = "db_name", nullable = false, unique = true, length = 150)
+	private String dbName;
+
+	@CreationTimestamp
+	@Column(name = "created_at", updatable = false)
+	private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,96 @@
+package com.multitenant.app.master.registry;
+
+import com.multitenant.app.common.cache.BoundedCache;
+import com.multitenant.app.common.mapper.TenantDbConfigMapper;
+import com.multitenant.app.master.dto.response.TenantDbConfigResponseDto;
+import com.multitenant.app.master.model.TenantDbConfigModel;
+import com.multitenant.app.master.repository.TenantDbConfigRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * TenantRegistry
+ *
+ * In-memory registry of tenant database configurations
+ * keyed by company code.
+ *
+ * Keeps master database lookups off the per-request path:
+ * entries are preloaded at startup, expire after a
+ * configurable TTL and are invalidated explicitly when
+ * tenant master data is written on this node. Writes made
+ * by other nodes become visible once the TTL elapses.
+ */
+@Component
+public class TenantRegistry {
+
+	/* Repository for tenant database configuration records */
+	private final TenantDbConfigRepository dbConfigRepository;
+
+	/* Maps database configuration entity and DTO */
+	private final TenantDbConfigMapper mapper;
+
+	/* Cached configurations keyed by company code */
+	private final BoundedCache<String, TenantDbConfigResponseDto> configs;
+
+	/* Load all tenants into registry on startup */
+	private final boolean preload;
+
+	public TenantRegistry(
+			TenantDbConfigRepository dbConfigRepository,
+			TenantDbConfigMapper mapper,
+			@Value("${tenant.registry.max-size:10000}") int maxSize,
+			@Value("${tenant.registry.ttl-ms:300000}") long ttlMillis,
+			@Value("${tenant.registry.preload:true}") boolean preload) {
+		this.dbConfigRepository = dbConfigRepository;
+		this.mapper = mapper;
+		this.configs = new BoundedCache<>(maxSize, ttlMillis);
+		this.preload = preload;
+	}
+
+	/**
+	 * Returns cached configuration or null when absent.
+	 */
+	public TenantDbConfigResponseDto get(String companyCode) {
+		return configs.get(companyCode);
+	}
+
+	/**
+	 * Stores configuration for given company code.
+	 */
+	public void put(String companyCode, TenantDbConfigResponseDto config) {
+		configs.put(companyCode, config);
+	}
+
+	/**
+	 * Drops cached configuration of given company code.
+	 */
+	public void invalidate(String companyCode) {
+		configs.invalidate(companyCode);
+	}
+
+	/**
+	 * Drops cached configuration of given tenant.
+	 */
+	public void invalidateTenant(UUID tenantId) {
+		configs.invalidateIf((companyCode, config) -> tenantId.equals(config.getTenantId()));
+	}
+
+	/**
+	 * Loads tenant configurations into registry once
+	 * the application has started.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void preload() {
+		if (!preload)
+			return;
+		List<TenantDbConfigModel> all = dbConfigRepository.findAllWithTenant();
+		for (TenantDbConfigModel config : all)
+			configs.put(config.getTenant().getCompanyCode(), mapper.toDto(config));
+	}
+
+}
@@ -2,8 +2,10 @@ package com.multitenant.app.master.repository;
 
 import com.multitenant.app.master.model.TenantDbConfigModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,11 +30,23 @@ public interface TenantDbConfigRepository extends JpaRepository<TenantDbConfigMo
 	Optional<TenantDbConfigModel> findByTenantId(UUID tenantId);
 
 	/**
-	 * Retrieves tenant database configuration using database name.
+	 * Retrieves a tenant database configuration using database name.
+	 *
+	 * Pooled tenants share their database, any of them
+	 * carries its connection settings.
 	 *
 	 * @param dbName physical database name
 	 * @return optional tenant database configuration
 	 */
-	Optional<TenantDbConfigModel> findByDbName(String dbName);
+	Optional<TenantDbConfigModel> findFirstByDbName(String dbName);
+
+	/**
+	 * Retrieves all tenant database configurations together
+	 * with their tenant master records in a single query.
+	 *
+	 * @return tenant database configurations with tenants loaded
+	 */
+	@Query("select c from TenantDbConfigModel c join fetch c.tenant")
+	List<TenantDbConfigModel> findAllWithTenant();
 
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.multitenant.app.master.repository;
+
+import com.multitenant.app.master.enums.OnboardingJobStatus;
+import com.multitenant.app.master.model.TenantOnboardingJobModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * TenantOnboardingJobRepository
+ *
+ * Repository interface for tenant onboarding jobs
+ * stored in the master database.
+ */
+@Repository
+public interface TenantOnboardingJobRepository extends JpaRepository<TenantOnboardingJobModel, UUID> {
+
+	/**
+	 * Retrieves jobs in given states not updated since cutoff.
+	 *
+	 * @param statuses job states to match
+	 * @param cutoff   last update before which job is stale
+	 * @return stale jobs
+	 */
+	List<TenantOnboardingJobModel> findByStatusInAndUpdatedAtBefore(Collection<OnboardingJobStatus> statuses,
+			LocalDateTime cutoff);
+
+}
@@ -0,0 +1,30 @@
+package com.multitenant.app.master.repository;
+
+import com.multitenant.app.master.model.TenantWarmDatabaseModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * TenantWarmDatabaseRepository
+ *
+ * Repository interface for pre-provisioned tenant
+ * databases waiting to be claimed by onboarding.
+ */
+@Repository
+public interface TenantWarmDatabaseRepository extends JpaRepository<TenantWarmDatabaseModel, Long> {
+
+	/**
+	 * Locks oldest warm database not locked by another
+	 * claim, so concurrent claims never wait on each other.
+	 *
+	 * Must be called within master transaction.
+	 *
+	 * @return warm database, empty when none is free
+	 */
+	@Query(value = "SELECT * FROM tenant_warm_databases ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	Optional<TenantWarmDatabaseModel> lockNextFree();
+
+}
@@ -0,0 +1,18 @@
+package com.multitenant.app.master.service;
+
+/**
+ * MasterSchemaService
+ *
+ * Upgrades master database tables created by
+ * earlier versions of schema.sql.
+ */
+public interface MasterSchemaService {
+
+	/**
+	 * Adds tenant tier column to tenant database configuration
+	 * and drops unique key of its database name, so pooled
+	 * tenants can share one database. No-op when up to date.
+	 */
+	void upgradeTenantDbConfig();
+
+}
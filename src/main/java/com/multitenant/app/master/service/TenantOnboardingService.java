@@ -1,6 +1,9 @@
 package com.multitenant.app.master.service;
 
 import com.multitenant.app.master.dto.request.TenantRegisterRequestDto;
+import com.multitenant.app.master.dto.response.TenantOnboardingJobResponseDto;
+
+import java.util.UUID;
 
 /**
  * TenantOnboardingService
@@ -14,14 +17,29 @@ import com.multitenant.app.master.dto.request.TenantRegisterRequestDto;
  * - admin user creation
  *
  * Acts as the main entry point for SaaS tenant onboarding.
+ * Provisioning runs as a job in the background, tracked
+ * in the master database.
  */
 public interface TenantOnboardingService {
 
 	/**
-	 * Executes tenant registration and provisioning process.
+	 * Creates tenant master record and queues provisioning
+	 * of its database and admin user.
 	 *
 	 * @param request tenant registration request payload
+	 * @return queued onboarding job
+	 * @throws com.multitenant.app.common.exception.DuplicateResourceException if company code or email is taken
+	 * @throws com.multitenant.app.common.exception.TenantUnavailableException if onboarding queue is full
+	 */
+	TenantOnboardingJobResponseDto submitOnboarding(TenantRegisterRequestDto request);
+
+	/**
+	 * Retrieves progress of onboarding job.
+	 *
+	 * @param jobId onboarding job identifier
+	 * @return onboarding job status
+	 * @throws com.multitenant.app.common.exception.ResourceNotFoundException if job does not exist
 	 */
-	void onboardTenant(TenantRegisterRequestDto request);
+	TenantOnboardingJobResponseDto getOnboardingJob(UUID jobId);
 
-}
\ No newline at end of file
+}
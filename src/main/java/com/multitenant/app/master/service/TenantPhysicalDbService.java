@@ -17,4 +17,11 @@ public interface TenantPhysicalDbService {
 	 */
 	void createDatabase(String databaseName);
 
+	/**
+	 * Drops a physical tenant database, no-op when it does not exist.
+	 *
+	 * @param databaseName tenant database name
+	 */
+	void dropDatabase(String databaseName);
+
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.multitenant.app.master.service;
 
+import java.util.UUID;
+
 /**
  * TenantSchemaService
  *
@@ -17,4 +19,38 @@ public interface TenantSchemaService {
 	 */
 	void createTenantSchema(String databaseName);
 
-}
\ No newline at end of file
+	/**
+	 * Adds customer search, filter and sort indexes
+	 * missing from tenant database.
+	 *
+	 * @param databaseName tenant database name
+	 */
+	void ensureCustomerIndexes(String databaseName);
+
+	/**
+	 * Adds tenant ID column to tenant tables missing it,
+	 * assigning existing rows to given tenant.
+	 *
+	 * @param databaseName dedicated tenant database name
+	 * @param tenantId     tenant owning the database
+	 */
+	void ensureTenantColumns(String databaseName, UUID tenantId);
+
+	/**
+	 * Creates token revocation table when tenant
+	 * database was created before it existed.
+	 *
+	 * @param databaseName tenant database name
+	 */
+	void ensureRevocationTable(String databaseName);
+
+	/**
+	 * Deletes all rows of tenant from tenant tables,
+	 * leaving rows of other tenants sharing the database.
+	 *
+	 * @param databaseName tenant database name
+	 * @param tenantId     tenant whose rows are deleted
+	 */
+	void deleteTenantRows(String databaseName, UUID tenantId);
+
+}
@@ -3,6 +3,8 @@ package com.multitenant.app.master.service;
 import com.multitenant.app.master.dto.request.TenantRequestDto;
 import com.multitenant.app.master.dto.response.TenantResponseDto;
 
+import java.util.UUID;
+
 /**
  * TenantService
  *
@@ -13,6 +15,7 @@ import com.multitenant.app.master.dto.response.TenantResponseDto;
  * - Creating tenant records during signup
  * - Retrieving tenant details for routing and login
  * - Enforcing uniqueness constraints
+ * - Removing tenants whose onboarding failed
  */
 public interface TenantService {
 
@@ -32,4 +35,12 @@ public interface TenantService {
 	 */
 	TenantResponseDto getTenantByCompanyCode(String companyCode);
 
+	/**
+	 * Deletes tenant record and its database configuration,
+	 * no-op when tenant does not exist.
+	 *
+	 * @param tenantId tenant identifier
+	 */
+	void deleteTenant(UUID tenantId);
+
 }
\ No newline at end of file
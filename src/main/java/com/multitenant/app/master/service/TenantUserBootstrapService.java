@@ -1,5 +1,7 @@
 package com.multitenant.app.master.service;
 
+import java.util.UUID;
+
 /**
  * TenantUserBootstrapService
  *
@@ -15,10 +17,11 @@ public interface TenantUserBootstrapService {
 	 * Creates default admin user inside tenant database.
 	 *
 	 * @param databaseName tenant database name
+	 * @param tenantId tenant owning the user
 	 * @param email admin email address
 	 * @param username admin login username
 	 * @param encodedPassword encrypted password
 	 */
-	void createAdminUser(String databaseName, String email, String username, String encodedPassword);
+	void createAdminUser(String databaseName, UUID tenantId, String email, String username, String encodedPassword);
 
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.multitenant.app.master.service;
+
+import java.util.Optional;
+
+/**
+ * TenantWarmPoolService
+ *
+ * Keeps empty tenant databases with current schema
+ * ready, so onboarding of dedicated tenants maps one
+ * instead of creating database and schema.
+ */
+public interface TenantWarmPoolService {
+
+	/**
+	 * Claims warm database and queues refill of the pool.
+	 *
+	 * @return claimed database name, empty when pool is empty or disabled
+	 */
+	Optional<String> claimDatabase();
+
+	/**
+	 * Returns unused claimed database to the pool.
+	 *
+	 * @param databaseName database claimed by failed onboarding
+	 */
+	void releaseDatabase(String databaseName);
+
+	/**
+	 * Drops claimed database that may hold tenant data
+	 * and can therefore not be returned to the pool.
+	 *
+	 * @param databaseName database claimed by failed onboarding
+	 */
+	void discardDatabase(String databaseName);
+
+	/**
+	 * Queues refill of the pool up to its target size.
+	 */
+	void requestRefill();
+
+}
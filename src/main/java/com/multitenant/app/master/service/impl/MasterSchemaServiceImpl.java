@@ -0,0 +1,79 @@
+package com.multitenant.app.master.service.impl;
+
+import com.multitenant.app.master.service.MasterSchemaService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * MasterSchemaServiceImpl
+ *
+ * Concrete implementation for master schema upgrades.
+ *
+ * schema.sql only creates missing tables, so columns and
+ * keys changed since are migrated here. Runs when the bean
+ * is created, after schema.sql and before the application
+ * serves requests or its startup tasks read tenant
+ * configuration. Failures stop startup, as master entities
+ * cannot be read from an outdated schema.
+ */
+@Slf4j
+@Service
+public class MasterSchemaServiceImpl implements MasterSchemaService {
+
+	/* Executes master schema commands */
+	private final JdbcTemplate jdbcTemplate;
+
+	public MasterSchemaServiceImpl(@Qualifier("masterJdbcTemplate") JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Upgrades master schema on startup.
+	 */
+	@PostConstruct
+	public void upgradeOnStartup() {
+		upgradeTenantDbConfig();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void upgradeTenantDbConfig() {
+		// Existing tenants all have their own database
+		Integer tierColumns = jdbcTemplate.queryForObject("""
+			SELECT COUNT(*) FROM information_schema.columns
+			WHERE table_schema = DATABASE() AND table_name = 'tenant_db_config' AND column_name = 'tier'
+		""", Integer.class);
+		if (tierColumns == null || tierColumns == 0) {
+			jdbcTemplate.execute("ALTER TABLE tenant_db_config ADD COLUMN tier VARCHAR(20) NOT NULL DEFAULT 'DEDICATED' AFTER db_name");
+			log.info("Added tier column to tenant_db_config");
+		}
+
+		// Keep database name lookups indexed once its unique key is gone
+		List<String> indexes = jdbcTemplate.queryForList("""
+			SELECT DISTINCT index_name FROM information_schema.statistics
+			WHERE table_schema = DATABASE() AND table_name = 'tenant_db_config'
+		""", String.class);
+		if (!indexes.contains("idx_tenant_db_config_db_name"))
+			jdbcTemplate.execute("CREATE INDEX idx_tenant_db_config_db_name ON tenant_db_config (db_name)");
+
+		// Unique keys on db_name alone, named db_name by inline UNIQUE
+		List<String> uniqueKeys = jdbcTemplate.queryForList("""
+			SELECT index_name FROM information_schema.statistics
+			WHERE table_schema = DATABASE() AND table_name = 'tenant_db_config' AND non_unique = 0
+			GROUP BY index_name
+			HAVING COUNT(*) = 1 AND MAX(column_name) = 'db_name'
+		""", String.class);
+		for (String key : uniqueKeys) {
+			jdbcTemplate.execute("ALTER TABLE tenant_db_config DROP INDEX `" + key + "`");
+			log.info("Dropped unique key {} of tenant_db_config", key);
+		}
+	}
+
+}
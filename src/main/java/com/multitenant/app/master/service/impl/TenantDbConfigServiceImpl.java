@@ -6,6 +6,7 @@ import com.multitenant.app.master.dto.request.TenantDbConfigRequestDto;
 import com.multitenant.app.master.dto.response.TenantDbConfigResponseDto;
 import com.multitenant.app.master.model.TenantDbConfigModel;
 import com.multitenant.app.master.model.TenantModel;
+import com.multitenant.app.master.registry.TenantRegistry;
 import com.multitenant.app.master.repository.TenantDbConfigRepository;
 import com.multitenant.app.master.repository.TenantRepository;
 import com.multitenant.app.master.service.TenantDbConfigService;
@@ -34,6 +35,9 @@ public class TenantDbConfigServiceImpl implements TenantDbConfigService {
 	/* Maps database configuration entity and DTO */
 	private final TenantDbConfigMapper mapper;
 
+	/* In-memory tenant configuration registry */
+	private final TenantRegistry tenantRegistry;
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -47,6 +51,8 @@ public class TenantDbConfigServiceImpl implements TenantDbConfigService {
 		if(tenant.isPresent()){
 			entity.setTenant(tenant.get());
 			dbConfigRepository.save(entity);
+			// Drop stale registry entry of this tenant
+			tenantRegistry.invalidateTenant(tenantId);
 		}
 	}
 
@@ -68,7 +74,7 @@ public class TenantDbConfigServiceImpl implements TenantDbConfigService {
 	@Override
 	public TenantDbConfigResponseDto getDbConfigByDbName(String dbName) {
 		// Fetch configuration by database name
-		TenantDbConfigModel config = dbConfigRepository.findByDbName(dbName)
+		TenantDbConfigModel config = dbConfigRepository.findFirstByDbName(dbName)
 			.orElseThrow(() -> new ResourceNotFoundException("Tenant Database Configuration Not Found"));
 		// Convert entity to response DTO
 		return mapper.toDto(config);
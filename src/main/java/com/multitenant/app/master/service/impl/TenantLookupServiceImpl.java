@@ -1,6 +1,7 @@
 package com.multitenant.app.master.service.impl;
 
 import com.multitenant.app.master.dto.response.TenantDbConfigResponseDto;
+import com.multitenant.app.master.registry.TenantRegistry;
 import com.multitenant.app.master.service.TenantDbConfigService;
 import com.multitenant.app.master.service.TenantLookupService;
 import com.multitenant.app.master.service.TenantService;
@@ -15,6 +16,9 @@ import org.springframework.stereotype.Service;
  *
  * Used by filters and routing components to dynamically
  * select the appropriate tenant database connection.
+ *
+ * Resolved configurations are served from TenantRegistry,
+ * the master database is queried only on registry miss.
  */
 @Service
 @RequiredArgsConstructor
@@ -26,13 +30,24 @@ public class TenantLookupServiceImpl implements TenantLookupService {
 	/* Persists tenant database configuration */
 	private final TenantDbConfigService tenantDbConfigService;
 
+	/* In-memory tenant configuration registry */
+	private final TenantRegistry tenantRegistry;
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public TenantDbConfigResponseDto findTenantDatabase(String companyCode) {
+		// Serve from registry when available
+		TenantDbConfigResponseDto cached = tenantRegistry.get(companyCode);
+		if (cached != null)
+			return cached;
+
+		// Resolve from master database and register
 		var tenant = tenantService.getTenantByCompanyCode(companyCode);
-		return tenantDbConfigService.getDbConfigByTenantId(tenant.getId());
+		TenantDbConfigResponseDto config = tenantDbConfigService.getDbConfigByTenantId(tenant.getId());
+		tenantRegistry.put(companyCode, config);
+		return config;
 	}
 
 }
\ No newline at end of file
@@ -1,13 +1,40 @@
 package com.multitenant.app.master.service.impl;
 
+import com.multitenant.app.common.exception.ResourceNotFoundException;
+import com.multitenant.app.common.exception.TenantUnavailableException;
+import com.multitenant.app.common.mapper.TenantOnboardingJobMapper;
+import com.multitenant.app.config.TenantDataSourceRegistry;
 import com.multitenant.app.master.dto.request.TenantDbConfigRequestDto;
 import com.multitenant.app.master.dto.request.TenantRegisterRequestDto;
 import com.multitenant.app.master.dto.request.TenantRequestDto;
+import com.multitenant.app.master.dto.response.TenantOnboardingJobResponseDto;
+import com.multitenant.app.master.dto.response.TenantResponseDto;
+import com.multitenant.app.master.enums.OnboardingJobStatus;
+import com.multitenant.app.master.enums.OnboardingStep;
+import com.multitenant.app.master.model.TenantOnboardingJobModel;
+import com.multitenant.app.master.repository.TenantOnboardingJobRepository;
 import com.multitenant.app.master.service.*;
-import lombok.RequiredArgsConstructor;
+import com.multitenant.app.master.enums.TenantTier;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
 
 /**
  * TenantOnboardingServiceImpl
@@ -16,11 +43,35 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * Coordinates tenant creation, database provisioning,
  * schema setup, and admin user initialization.
+ *
+ * DEDICATED tenants get their own database. POOLED tenants
+ * are placed in the shared pooled database, provisioned on
+ * first use, and told apart by their tenant ID. DEDICATED
+ * tenants map a database of the warm pool when one is ready,
+ * skipping database and schema creation.
+ *
+ * Tenant master record is created on the request thread so
+ * duplicates are rejected immediately; the remaining steps
+ * run on a bounded worker pool, recording progress in the
+ * job row after each step. Admin password is hashed on a
+ * separate pool while the database is provisioned. When a
+ * step fails, the tenant record is removed and what the job
+ * provisioned is undone so registration can be retried:
+ * created dedicated databases are dropped, rows of pooled
+ * tenants are deleted, and claimed warm databases are
+ * returned to the pool or dropped.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class TenantOnboardingServiceImpl implements TenantOnboardingService {
 
+	/* Job states of onboarding not yet finished */
+	private static final Set<OnboardingJobStatus> UNFINISHED = EnumSet.of(
+		OnboardingJobStatus.PENDING, OnboardingJobStatus.RUNNING);
+
+	/* Longest error message stored in job row */
+	private static final int MAX_ERROR_LENGTH = 500;
+
 	/* Manages tenant master records */
 	private final TenantService tenantService;
 
@@ -39,12 +90,111 @@ public class TenantOnboardingServiceImpl implements TenantOnboardingService {
 	/* Encrypts admin passwords */
 	private final PasswordEncoder passwordEncoder;
 
+	/* Pre-provisioned databases claimed by dedicated tenants */
+	private final TenantWarmPoolService warmPoolService;
+
+	/* Closes pools of dropped tenant databases */
+	private final TenantDataSourceRegistry dataSourceRegistry;
+
+	/* Persists onboarding job progress */
+	private final TenantOnboardingJobRepository jobRepository;
+
+	/* Maps onboarding jobs to status DTOs */
+	private final TenantOnboardingJobMapper jobMapper;
+
+	/* Tier of tenants registering without one */
+	private final TenantTier defaultTier;
+
+	/* Database shared by pooled tenants */
+	private final String pooledDbName;
+
+	/* Unfinished jobs not updated within this time were interrupted */
+	private final long staleAfterMillis;
+
+	/* Server hosting new dedicated tenant databases */
+	private final String dbHost;
+
+	/* Port of that server */
+	private final int dbPort;
+
+	/* Username on that server */
+	private final String dbUsername;
+
+	/* Password on that server */
+	private final String dbPassword;
+
+	/* Runs onboarding jobs */
+	private final ThreadPoolTaskExecutor workers;
+
+	/* Hashes admin passwords alongside database provisioning */
+	private final ThreadPoolTaskExecutor hashers;
+
+	public TenantOnboardingServiceImpl(
+			TenantService tenantService,
+			TenantDbConfigService tenantDbService,
+			TenantPhysicalDbService physicalDbService,
+			TenantSchemaService schemaService,
+			TenantUserBootstrapService userBootstrapService,
+			PasswordEncoder passwordEncoder,
+			TenantWarmPoolService warmPoolService,
+			TenantDataSourceRegistry dataSourceRegistry,
+			TenantOnboardingJobRepository jobRepository,
+			TenantOnboardingJobMapper jobMapper,
+			@Value("${tenant.onboarding.default-tier:dedicated}") TenantTier defaultTier,
+			@Value("${tenant.pooled.db-name:tenant_pool}") String pooledDbName,
+			@Value("${tenant.onboarding.threads:4}") int threads,
+			@Value("${tenant.onboarding.queue-capacity:100}") int queueCapacity,
+			@Value("${tenant.onboarding.stale-after-ms:600000}") long staleAfterMillis,
+			@Value("${tenant.provisioning.db-host:localhost}") String dbHost,
+			@Value("${tenant.provisioning.db-port:3306}") int dbPort,
+			@Value("${tenant.provisioning.db-username:root}") String dbUsername,
+			@Value("${tenant.provisioning.db-password:}") String dbPassword) {
+		this.tenantService = tenantService;
+		this.tenantDbService = tenantDbService;
+		this.physicalDbService = physicalDbService;
+		this.schemaService = schemaService;
+		this.userBootstrapService = userBootstrapService;
+		this.passwordEncoder = passwordEncoder;
+		this.warmPoolService = warmPoolService;
+		this.dataSourceRegistry = dataSourceRegistry;
+		this.jobRepository = jobRepository;
+		this.jobMapper = jobMapper;
+		this.defaultTier = defaultTier;
+		this.pooledDbName = pooledDbName;
+		this.staleAfterMillis = staleAfterMillis;
+		this.dbHost = dbHost;
+		this.dbPort = dbPort;
+		this.dbUsername = dbUsername;
+		this.dbPassword = dbPassword;
+		this.workers = executor("tenant-onboarding-", threads, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+		// Hashes of failed jobs keep running, when they fill the pool the worker hashes itself
+		this.hashers = executor("tenant-onboarding-hash-", threads, threads, new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * Creates bounded executor of daemon threads.
+	 */
+	private static ThreadPoolTaskExecutor executor(String threadNamePrefix, int threads, int queueCapacity,
+			RejectedExecutionHandler rejectedExecutionHandler) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.setDaemon(true);
+		executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+		executor.initialize();
+		return executor;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	@Transactional("masterTransactionManager")
-	public void onboardTenant(TenantRegisterRequestDto request) {
+	public TenantOnboardingJobResponseDto submitOnboarding(TenantRegisterRequestDto request) {
+		// Validate requested tier before anything is created
+		TenantTier tier = TenantTier.fromString(request.getTier(), defaultTier);
+
 		// Build tenant creation request
 		TenantRequestDto tenantRequest = TenantRequestDto.builder()
 			.companyCode(request.getCompanyCode())
@@ -52,33 +202,300 @@ public class TenantOnboardingServiceImpl implements TenantOnboardingService {
 			.companyEmail(request.getCompanyEmail())
 			.build();
 
-		// Create tenant master record
-		var tenantResponseDto = tenantService.createTenant(tenantRequest);
+		// Create tenant master record, UNIQUE constraints reject duplicates here
+		TenantResponseDto tenant = tenantService.createTenant(tenantRequest);
 
-		// Generate tenant database name
-		String dbName = "tenant_" + tenantResponseDto.getCompanyCode().toLowerCase();
+		// Record job with its first step done
+		TenantOnboardingJobModel job = new TenantOnboardingJobModel();
+		job.setTenantId(tenant.getId());
+		job.setCompanyCode(tenant.getCompanyCode());
+		job.setStatus(OnboardingJobStatus.PENDING);
+		job.setCompletedSteps(OnboardingStep.CREATE_TENANT.name());
+		JobProgress progress = new JobProgress(jobRepository.save(job));
 
-		// Create physical tenant database
-		physicalDbService.createDatabase(dbName);
+		try {
+			workers.execute(() -> provision(progress, tenant, tier, request));
+		} catch (TaskRejectedException e) {
+			// Queue full, nothing provisioned yet
+			tenantService.deleteTenant(tenant.getId());
+			progress.fail(null, "Onboarding queue is full");
+			throw new TenantUnavailableException("Tenant onboarding is busy, retry later", e);
+		}
+		return jobMapper.toDto(progress.job());
+	}
 
-		// Store tenant database configuration
-		TenantDbConfigRequestDto dbConfig = TenantDbConfigRequestDto.builder()
-			.dbName(dbName)
-			.dbHost("localhost")
-			.dbPort(3306)
-			.dbUsername("root")
-			.dbPassword("455445")
-			.build();
-		tenantDbService.saveDbConfig(dbConfig, tenantResponseDto.getId());
+	/**
+	 * Runs provisioning steps of one onboarding job.
+	 */
+	private void provision(JobProgress progress, TenantResponseDto tenant, TenantTier tier,
+			TenantRegisterRequestDto request) {
+		progress.running();
+
+		OnboardingStep step = null;
+		String dbName = null;
+		String warmDbName = null;
+		CompletableFuture<String> encodedPassword = null;
+		try {
+			// Hash admin password while database is provisioned
+			encodedPassword = CompletableFuture.supplyAsync(
+				() -> passwordEncoder.encode(request.getAdminPassword()), hashers);
+			encodedPassword.thenRun(() -> progress.completed(OnboardingStep.HASH_PASSWORD));
+
+			// Dedicated tenants map a pre-provisioned database when one is ready
+			if (tier == TenantTier.DEDICATED)
+				warmDbName = warmPoolService.claimDatabase().orElse(null);
+			if (warmDbName != null)
+				progress.claimed(warmDbName);
+
+			// Generate tenant database name, pooled tenants share one
+			dbName = tier == TenantTier.POOLED
+				? pooledDbName
+				: warmDbName != null ? warmDbName : "tenant_" + tenant.getCompanyCode().toLowerCase();
+
+			if (warmDbName != null) {
+				// Database and schema were created ahead
+				progress.completed(OnboardingStep.CREATE_DATABASE);
+				progress.completed(OnboardingStep.CREATE_SCHEMA);
+			} else {
+				// Create physical tenant database (no-op when database exists)
+				step = progress.start(OnboardingStep.CREATE_DATABASE);
+				physicalDbService.createDatabase(dbName);
+				progress.completed(step);
+			}
+
+			// Store tenant database configuration
+			step = progress.start(OnboardingStep.SAVE_DB_CONFIG);
+			TenantDbConfigRequestDto dbConfig = TenantDbConfigRequestDto.builder()
+				.dbName(dbName)
+				.tier(tier)
+				.dbHost(dbHost)
+				.dbPort(dbPort)
+				.dbUsername(dbUsername)
+				.dbPassword(dbPassword)
+				.build();
+			tenantDbService.saveDbConfig(dbConfig, tenant.getId());
+			progress.completed(step);
+
+			// Initialize tenant schema (tables are kept when database exists)
+			if (warmDbName == null) {
+				step = progress.start(OnboardingStep.CREATE_SCHEMA);
+				schemaService.createTenantSchema(dbName);
+				progress.completed(step);
+			}
+
+			// Create tenant admin user once password is hashed
+			step = progress.start(OnboardingStep.CREATE_ADMIN_USER);
+			userBootstrapService.createAdminUser(dbName, tenant.getId(), request.getAdminEmail(),
+				request.getAdminUsername(), join(encodedPassword));
+			progress.completed(step);
+
+			progress.finish();
+		} catch (RuntimeException e) {
+			log.error("Onboarding of tenant {} failed at {}", tenant.getCompanyCode(), step, e);
+			if (encodedPassword != null)
+				encodedPassword.cancel(false);
+			// Provisioned data is unreferenced once tenant is removed
+			if (removeTenant(tenant.getId()))
+				undoProvisioning(tenant.getId(), tier, dbName, warmDbName, step);
+			// Exception details stay in the log, status endpoint is public
+			progress.fail(step, failureMessage(step));
+		}
+	}
+
+	/**
+	 * Removes what failed job provisioned for its removed
+	 * tenant, so the same company code can register again.
+	 *
+	 * Failures are logged, job failure is reported anyway.
+	 */
+	private void undoProvisioning(UUID tenantId, TenantTier tier, String dbName, String warmDbName,
+			OnboardingStep failedStep) {
+		try {
+			if (warmDbName != null) {
+				returnWarmDatabase(warmDbName, failedStep);
+			} else if (tier == TenantTier.POOLED) {
+				// Shared database stays, rows exist once admin user insert started
+				if (failedStep != null && failedStep.compareTo(OnboardingStep.CREATE_ADMIN_USER) >= 0)
+					schemaService.deleteTenantRows(dbName, tenantId);
+			} else if (dbName != null) {
+				// Database is named after company code, no other tenant uses it
+				dataSourceRegistry.evict(dbName);
+				physicalDbService.dropDatabase(dbName);
+			}
+		} catch (RuntimeException e) {
+			log.warn("Could not undo provisioning of tenant {} in {}: {}", tenantId, dbName, e.getMessage());
+		}
+	}
+
+	/**
+	 * Returns claimed warm database to the pool when job
+	 * failed before admin user insert, drops it otherwise
+	 * since it may hold the admin user.
+	 */
+	private void returnWarmDatabase(String warmDbName, OnboardingStep failedStep) {
+		if (failedStep == null || failedStep.compareTo(OnboardingStep.CREATE_ADMIN_USER) < 0)
+			warmPoolService.releaseDatabase(warmDbName);
+		else
+			warmPoolService.discardDatabase(warmDbName);
+	}
+
+	/**
+	 * Describes failed step to registrant without
+	 * exposing database details.
+	 */
+	private static String failureMessage(OnboardingStep step) {
+		if (step == null)
+			return "Tenant onboarding could not be started";
+		return switch (step) {
+			case CREATE_TENANT -> "Tenant record could not be created";
+			case HASH_PASSWORD -> "Admin password could not be encrypted";
+			case CREATE_DATABASE -> "Tenant database could not be created";
+			case SAVE_DB_CONFIG -> "Tenant database configuration could not be saved";
+			case CREATE_SCHEMA -> "Tenant database schema could not be created";
+			case CREATE_ADMIN_USER -> "Tenant admin user could not be created";
+		};
+	}
+
+	/**
+	 * Waits for password hash, rethrowing its failure.
+	 */
+	private static String join(CompletableFuture<String> encodedPassword) {
+		try {
+			return encodedPassword.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause)
+				throw cause;
+			throw e;
+		}
+	}
+
+	/**
+	 * Removes tenant of failed job, keeping failure
+	 * of the job itself when removal fails too.
+	 *
+	 * @return whether tenant was removed
+	 */
+	private boolean removeTenant(UUID tenantId) {
+		try {
+			tenantService.deleteTenant(tenantId);
+			return true;
+		} catch (RuntimeException e) {
+			log.warn("Could not remove tenant {} of failed onboarding: {}", tenantId, e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public TenantOnboardingJobResponseDto getOnboardingJob(UUID jobId) {
+		return jobRepository.findById(jobId)
+			.map(jobMapper::toDto)
+			.orElseThrow(() -> new ResourceNotFoundException("Onboarding job not found with id: " + jobId));
+	}
+
+	/**
+	 * Fails jobs interrupted by shutdown of the node running
+	 * them and removes their tenants, so registration can be
+	 * retried. Claimed warm databases are dropped, as how far
+	 * the job got is uncertain. Jobs updated recently may
+	 * belong to another node and are left alone.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void failInterruptedJobs() {
+		LocalDateTime cutoff = LocalDateTime.now().minusNanos(staleAfterMillis * 1_000_000);
+		List<TenantOnboardingJobModel> stale = jobRepository.findByStatusInAndUpdatedAtBefore(UNFINISHED, cutoff);
+		for (TenantOnboardingJobModel job : stale) {
+			if (job.getTenantId() != null && removeTenant(job.getTenantId()) && job.getWarmDbName() != null)
+				warmPoolService.discardDatabase(job.getWarmDbName());
+			job.setStatus(OnboardingJobStatus.FAILED);
+			job.setErrorMessage("Interrupted by application shutdown");
+			jobRepository.save(job);
+		}
+		if (!stale.isEmpty())
+			log.warn("Failed {} interrupted onboarding jobs", stale.size());
+	}
+
+	/**
+	 * Stops onboarding executors on application shutdown.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdown();
+		hashers.shutdown();
+	}
+
+	/**
+	 * JobProgress
+	 *
+	 * Step state of one running job, written to its row
+	 * on every change. Synchronized because password hash
+	 * completes on another thread than database steps.
+	 */
+	private final class JobProgress {
+
+		/* Steps finished so far */
+		private final Set<OnboardingStep> completed = EnumSet.noneOf(OnboardingStep.class);
+
+		/* Latest persisted state of the job */
+		private TenantOnboardingJobModel job;
+
+		private JobProgress(TenantOnboardingJobModel job) {
+			this.job = job;
+			this.completed.add(OnboardingStep.CREATE_TENANT);
+		}
+
+		private synchronized TenantOnboardingJobModel job() {
+			return job;
+		}
+
+		private synchronized void running() {
+			job.setStatus(OnboardingJobStatus.RUNNING);
+			save();
+		}
+
+		private synchronized void claimed(String warmDbName) {
+			job.setWarmDbName(warmDbName);
+			save();
+		}
+
+		private synchronized OnboardingStep start(OnboardingStep step) {
+			job.setCurrentStep(step);
+			save();
+			return step;
+		}
+
+		private synchronized void completed(OnboardingStep step) {
+			completed.add(step);
+			job.setCompletedSteps(completed.stream().map(Enum::name).collect(Collectors.joining(",")));
+			save();
+		}
+
+		private synchronized void finish() {
+			job.setStatus(OnboardingJobStatus.COMPLETED);
+			job.setCurrentStep(null);
+			save();
+		}
 
-		// Initialize tenant schema
-		schemaService.createTenantSchema(dbName);
+		private synchronized void fail(OnboardingStep step, String error) {
+			job.setStatus(OnboardingJobStatus.FAILED);
+			job.setCurrentStep(step);
+			job.setErrorMessage(error == null || error.length() <= MAX_ERROR_LENGTH
+				? error
+				: error.substring(0, MAX_ERROR_LENGTH));
+			save();
+		}
 
-		// Encrypt admin password
-		String encodedPassword = passwordEncoder.encode(request.getAdminPassword());
+		/* Progress is informational, failing to record it must not fail onboarding */
+		private void save() {
+			try {
+				job = jobRepository.save(job);
+			} catch (RuntimeException e) {
+				log.warn("Could not record progress of onboarding job {}: {}", job.getId(), e.getMessage());
+			}
+		}
 
-		// Create tenant admin user
-		userBootstrapService.createAdminUser(dbName, request.getAdminEmail(), request.getAdminUsername(), encodedPassword);
 	}
 
-}
\ No newline at end of file
+}
@@ -30,4 +30,13 @@ public class TenantPhysicalDbServiceImpl implements TenantPhysicalDbService {
 		jdbcTemplate.execute("CREATE DATABASE IF NOT EXISTS " + databaseName);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dropDatabase(String databaseName) {
+		// Execute database removal command
+		jdbcTemplate.execute("DROP DATABASE IF EXISTS " + databaseName);
+	}
+
 }
\ No newline at end of file
@@ -1,25 +1,108 @@
 package com.multitenant.app.master.service.impl;
 
 import com.multitenant.app.context.TenantContext;
+import com.multitenant.app.context.TenantIds;
+import com.multitenant.app.master.enums.TenantTier;
+import com.multitenant.app.master.model.TenantDbConfigModel;
+import com.multitenant.app.master.repository.TenantDbConfigRepository;
 import com.multitenant.app.master.service.TenantSchemaService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
 /**
  * TenantSchemaServiceImpl
  *
  * Concrete implementation for tenant
  * database schema initialization.
+ *
+ * Every table carries the owning tenant ID and its unique
+ * keys and B-tree indexes lead with it, so tenants pooled
+ * in one database neither collide nor scan each other's
+ * rows. Dedicated databases created before the column
+ * existed get it added and backfilled on startup.
+ *
+ * Optionally adds missing customer indexes to existing
+ * tenant databases on startup, so FULLTEXT search, typed
+ * filters and indexed sorting work for tenants created
+ * before the indexes existed.
  */
+@Slf4j
 @Service
 public class TenantSchemaServiceImpl implements TenantSchemaService {
 
+	/*
+	 * Customer secondary indexes by name. FULLTEXT columns must match
+	 * search function; B-tree indexes lead with tenant ID and back typed
+	 * filters and sortable fields (InnoDB appends primary key, keeping ID
+	 * tie-breaks indexed).
+	 */
+	private static final Map<String, String> CUSTOMER_INDEXES = new LinkedHashMap<>();
+
+	/* Token revocations, also created in tenant databases predating it */
+	private static final String USER_REVOCATIONS_TABLE = """
+			CREATE TABLE IF NOT EXISTS user_revocations (
+				tenant_id BINARY(16) NOT NULL,
+				username VARCHAR(50) NOT NULL,
+				not_before TIMESTAMP(3) NOT NULL,
+				PRIMARY KEY (tenant_id, username),
+				INDEX idx_user_revocations_not_before (tenant_id, not_before)
+			)
+		""";
+
+	/* Tables holding tenant rows */
+	private static final List<String> TENANT_TABLES = List.of("users", "customers", "user_revocations");
+
+	static {
+		CUSTOMER_INDEXES.put("ft_customers_search",
+			"FULLTEXT INDEX ft_customers_search (first_name, last_name, email, mobile, address1, address2)");
+		CUSTOMER_INDEXES.put("idx_customers_first_name",
+			"INDEX idx_customers_first_name (tenant_id, first_name)");
+		CUSTOMER_INDEXES.put("idx_customers_last_name_first_name",
+			"INDEX idx_customers_last_name_first_name (tenant_id, last_name, first_name)");
+		CUSTOMER_INDEXES.put("idx_customers_date_of_birth",
+			"INDEX idx_customers_date_of_birth (tenant_id, date_of_birth)");
+		CUSTOMER_INDEXES.put("idx_customers_created_at",
+			"INDEX idx_customers_created_at (tenant_id, created_at)");
+		CUSTOMER_INDEXES.put("idx_customers_gender_age",
+			"INDEX idx_customers_gender_age (tenant_id, gender, age)");
+	}
+
 	/* Executes low-level database creation commands */
 	private final JdbcTemplate jdbcTemplate;
 
-	public TenantSchemaServiceImpl(@Qualifier("tenantJdbcTemplate") JdbcTemplate jdbcTemplate) {
+	/* Repository for tenant database configuration records */
+	private final TenantDbConfigRepository dbConfigRepository;
+
+	/* Add missing customer indexes to all tenants on startup */
+	private final boolean ensureIndexesOnStartup;
+
+	/* Add missing tenant ID columns to dedicated tenants on startup */
+	private final boolean ensureTenantColumnsOnStartup;
+
+	public TenantSchemaServiceImpl(
+			@Qualifier("tenantJdbcTemplate") JdbcTemplate jdbcTemplate,
+			TenantDbConfigRepository dbConfigRepository,
+			@Value("${customer.search.ensure-index-on-startup:false}") boolean ensureIndexesOnStartup,
+			@Value("${tenant.schema.ensure-tenant-columns-on-startup:true}") boolean ensureTenantColumnsOnStartup) {
 		this.jdbcTemplate = jdbcTemplate;
+		this.dbConfigRepository = dbConfigRepository;
+		this.ensureIndexesOnStartup = ensureIndexesOnStartup;
+		this.ensureTenantColumnsOnStartup = ensureTenantColumnsOnStartup;
 	}
 
 	/**
@@ -35,13 +118,16 @@ public class TenantSchemaServiceImpl implements TenantSchemaService {
 			jdbcTemplate.execute("""
 			CREATE TABLE IF NOT EXISTS users (
 				id BIGINT PRIMARY KEY AUTO_INCREMENT,
-				email VARCHAR(150) UNIQUE NOT NULL,
-				username VARCHAR(50) UNIQUE NOT NULL,
+				tenant_id BINARY(16) NOT NULL,
+				email VARCHAR(150) NOT NULL,
+				username VARCHAR(50) NOT NULL,
 				password TEXT NOT NULL,
 				role VARCHAR(30) NOT NULL,
 				status VARCHAR(20) NOT NULL,
 				created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-				updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+				updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+				UNIQUE KEY email (tenant_id, email),
+				UNIQUE KEY username (tenant_id, username)
 			)
 		""");
 
@@ -49,23 +135,183 @@ public class TenantSchemaServiceImpl implements TenantSchemaService {
 			jdbcTemplate.execute("""
 			CREATE TABLE IF NOT EXISTS customers (
 				id BIGINT AUTO_INCREMENT PRIMARY KEY,
+				tenant_id BINARY(16) NOT NULL,
 				first_name VARCHAR(50) NOT NULL,
 				last_name VARCHAR(50) NOT NULL,
 				date_of_birth DATE,
 				age TINYINT UNSIGNED,
 				gender TINYINT UNSIGNED,
-				mobile VARCHAR(20) NOT NULL UNIQUE,
-				email VARCHAR(150) NOT NULL UNIQUE,
+				mobile VARCHAR(20) NOT NULL,
+				email VARCHAR(150) NOT NULL,
 				address1 VARCHAR(255) NOT NULL,
 				address2 VARCHAR(255),
 				created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-				updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+				updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+				UNIQUE KEY mobile (tenant_id, mobile),
+				UNIQUE KEY email (tenant_id, email),
+				%s
 			)
-		""");
+		""".formatted(String.join(",\n\t\t\t\t", CUSTOMER_INDEXES.values())));
+
+			// Create token revocations table
+			jdbcTemplate.execute(USER_REVOCATIONS_TABLE);
+		} finally {
+			// Clear tenant context to avoid data contamination
+			TenantContext.clear();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void ensureCustomerIndexes(String databaseName) {
+		try {
+			// Set tenant context to switch routing
+			TenantContext.setTenantDb(databaseName);
+
+			Set<String> existing = new HashSet<>(jdbcTemplate.queryForList("""
+			SELECT DISTINCT index_name FROM information_schema.statistics
+			WHERE table_schema = DATABASE() AND table_name = 'customers'
+		""", String.class));
+
+			// Add each index once, first FULLTEXT index rebuilds the table
+			CUSTOMER_INDEXES.forEach((name, definition) -> {
+				if (!existing.contains(name))
+					jdbcTemplate.execute("ALTER TABLE customers ADD " + definition);
+			});
+		} finally {
+			// Clear tenant context to avoid data contamination
+			TenantContext.clear();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void ensureTenantColumns(String databaseName, UUID tenantId) {
+		try {
+			// Set tenant context to switch routing
+			TenantContext.setTenantDb(databaseName);
+
+			List<String> missing = jdbcTemplate.queryForList("""
+			SELECT t.table_name FROM information_schema.tables t
+			WHERE t.table_schema = DATABASE() AND t.table_name IN (%s)
+			AND NOT EXISTS (
+				SELECT 1 FROM information_schema.columns c
+				WHERE c.table_schema = t.table_schema AND c.table_name = t.table_name AND c.column_name = 'tenant_id')
+		""".formatted(String.join(", ", TENANT_TABLES.stream().map(table -> "'" + table + "'").toList())), String.class);
+
+			// Existing rows all belong to the database's single tenant
+			byte[] tenant = TenantIds.toBytes(tenantId);
+			for (String table : missing) {
+				jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN tenant_id BINARY(16) NULL");
+				jdbcTemplate.update("UPDATE " + table + " SET tenant_id = ? WHERE tenant_id IS NULL", tenant);
+			}
+		} finally {
+			// Clear tenant context to avoid data contamination
+			TenantContext.clear();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void ensureRevocationTable(String databaseName) {
+		try {
+			// Set tenant context to switch routing
+			TenantContext.setTenantDb(databaseName);
+
+			jdbcTemplate.execute(USER_REVOCATIONS_TABLE);
+		} finally {
+			// Clear tenant context to avoid data contamination
+			TenantContext.clear();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void deleteTenantRows(String databaseName, UUID tenantId) {
+		try {
+			// Set tenant context to switch routing
+			TenantContext.setTenantDb(databaseName);
+
+			byte[] tenant = TenantIds.toBytes(tenantId);
+			for (String table : TENANT_TABLES)
+				jdbcTemplate.update("DELETE FROM " + table + " WHERE tenant_id = ?", tenant);
 		} finally {
 			// Clear tenant context to avoid data contamination
 			TenantContext.clear();
 		}
 	}
 
+	/**
+	 * Creates token revocation table in every tenant
+	 * database once the application has started, so user
+	 * deletion and renames can record revocations.
+	 *
+	 * Runs before tenant ID columns are ensured. Failing
+	 * tenants are skipped so one unreachable database does
+	 * not block the others.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void ensureRevocationTablesOnStartup() {
+		for (String dbName : dbConfigRepository.findAll().stream().map(TenantDbConfigModel::getDbName).distinct().toList()) {
+			try {
+				ensureRevocationTable(dbName);
+			} catch (DataAccessException e) {
+				log.warn("Could not ensure revocation table in {}: {}", dbName, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Adds missing tenant ID columns to every dedicated
+	 * tenant database once the application has started.
+	 *
+	 * Pooled databases are always created with them.
+	 * Failing tenants are skipped so one unreachable
+	 * database does not block the others.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+	public void ensureTenantColumnsOnStartup() {
+		if (!ensureTenantColumnsOnStartup)
+			return;
+		for (TenantDbConfigModel config : dbConfigRepository.findAllWithTenant()) {
+			if (config.getTier() != TenantTier.DEDICATED)
+				continue;
+			try {
+				ensureTenantColumns(config.getDbName(), config.getTenant().getId());
+			} catch (DataAccessException e) {
+				log.warn("Could not ensure tenant columns in {}: {}", config.getDbName(), e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Adds missing customer indexes to every tenant
+	 * database once the application has started.
+	 *
+	 * Failing tenants are skipped so one unreachable
+	 * database does not block the others.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureCustomerIndexesOnStartup() {
+		if (!ensureIndexesOnStartup)
+			return;
+		for (String dbName : dbConfigRepository.findAll().stream().map(TenantDbConfigModel::getDbName).distinct().toList()) {
+			try {
+				ensureCustomerIndexes(dbName);
+			} catch (DataAccessException e) {
+				log.warn("Could not ensure customer indexes in {}: {}", dbName, e.getMessage());
+			}
+		}
+	}
+
 }
\ No newline at end of file
@@ -1,16 +1,21 @@
 package com.multitenant.app.master.service.impl;
 
+import com.multitenant.app.common.exception.DuplicateKeyViolations;
 import com.multitenant.app.common.exception.DuplicateResourceException;
 import com.multitenant.app.common.exception.ResourceNotFoundException;
 import com.multitenant.app.common.mapper.TenantMapper;
 import com.multitenant.app.master.dto.request.TenantRequestDto;
 import com.multitenant.app.master.dto.response.TenantResponseDto;
 import com.multitenant.app.master.model.TenantModel;
+import com.multitenant.app.master.registry.TenantRegistry;
 import com.multitenant.app.master.repository.TenantRepository;
 import com.multitenant.app.master.service.TenantService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 /**
  * TenantServiceImpl
  *
@@ -27,25 +32,39 @@ public class TenantServiceImpl implements TenantService {
 	/* Maps tenant entity and DTO objects */
 	private final TenantMapper mapper;
 
+	/* In-memory tenant configuration registry */
+	private final TenantRegistry tenantRegistry;
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public TenantResponseDto createTenant(TenantRequestDto requestDto) {
-		// Validate company code uniqueness
-		if (tenantRepository.existsByCompanyCode(requestDto.getCompanyCode())) {
-			throw new DuplicateResourceException("Company code already exists", "companyCode");
-		}
-
-		// Validate company email uniqueness
-		if (tenantRepository.existsByCompanyEmail(requestDto.getCompanyEmail())) {
-			throw new DuplicateResourceException("Company email already exists", "companyEmail");
-		}
-
 		// Convert DTO to entity
 		TenantModel tenant = mapper.toEntity(requestDto);
-		// Persist tenant record and return response
-		return mapper.toDto(tenantRepository.save(tenant));
+		// Persist tenant record, flushing so UNIQUE constraints reject duplicates here
+		TenantResponseDto response;
+		try {
+			response = mapper.toDto(tenantRepository.saveAndFlush(tenant));
+		} catch (DataIntegrityViolationException e) {
+			throw translateDuplicate(e);
+		}
+		// Drop any stale registry entry for this company code
+		tenantRegistry.invalidate(requestDto.getCompanyCode());
+		return response;
+	}
+
+	/**
+	 * Translates violated unique constraint into duplicate
+	 * error of the offending field.
+	 */
+	private RuntimeException translateDuplicate(DataIntegrityViolationException e) {
+		String key = DuplicateKeyViolations.violatedKey(e);
+		if ("company_code".equals(key))
+			return new DuplicateResourceException("Company code already exists", "companyCode");
+		if ("company_email".equals(key))
+			return new DuplicateResourceException("Company email already exists", "companyEmail");
+		return e;
 	}
 
 	/**
@@ -60,4 +79,18 @@ public class TenantServiceImpl implements TenantService {
 		return mapper.toDto(tenant);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void deleteTenant(UUID tenantId) {
+		tenantRepository.findById(tenantId).ifPresent(tenant -> {
+			// Database configuration is removed with tenant (cascade)
+			tenantRepository.delete(tenant);
+			// Drop registry entries of removed tenant
+			tenantRegistry.invalidate(tenant.getCompanyCode());
+			tenantRegistry.invalidateTenant(tenantId);
+		});
+	}
+
 }
\ No newline at end of file
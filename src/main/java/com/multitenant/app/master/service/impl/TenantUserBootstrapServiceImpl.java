@@ -1,11 +1,14 @@
 package com.multitenant.app.master.service.impl;
 
 import com.multitenant.app.context.TenantContext;
+import com.multitenant.app.context.TenantIds;
 import com.multitenant.app.master.service.TenantUserBootstrapService;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 /**
  * TenantUserBootstrapServiceImpl
  *
@@ -26,7 +29,7 @@ public class TenantUserBootstrapServiceImpl implements TenantUserBootstrapServic
 	 * {@inheritDoc}
 	 */
 	@Override
-	public void createAdminUser(String databaseName, String email, String username, String encodedPassword) {
+	public void createAdminUser(String databaseName, UUID tenantId, String email, String username, String encodedPassword) {
 		try {
 			// Set tenant context to switch routing
 			TenantContext.setTenantDb(databaseName);
@@ -34,9 +37,9 @@ public class TenantUserBootstrapServiceImpl implements TenantUserBootstrapServic
 			// Insert admin user record
 			jdbcTemplate.update("""
 			INSERT INTO users
-			(email, username, password, role, status, created_at, updated_at)
-			VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
-			""", email, username, encodedPassword, "ADMIN", "ACTIVE");
+			(tenant_id, email, username, password, role, status, created_at, updated_at)
+			VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+			""", TenantIds.toBytes(tenantId), email, username, encodedPassword, "ADMIN", "ACTIVE");
 		} finally {
 			// Clear tenant context
 			TenantContext.clear();
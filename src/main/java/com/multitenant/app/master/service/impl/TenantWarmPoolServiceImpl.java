@@ -0,0 +1,305 @@
+package com.multitenant.app.master.service.impl;
+
+import com.multitenant.app.config.TenantDataSourceRegistry;
+import com.multitenant.app.config.TenantDataSourceResolver;
+import com.multitenant.app.master.dto.response.TenantDbConfigResponseDto;
+import com.multitenant.app.master.enums.TenantTier;
+import com.multitenant.app.master.model.TenantWarmDatabaseModel;
+import com.multitenant.app.master.repository.TenantWarmDatabaseRepository;
+import com.multitenant.app.master.service.TenantPhysicalDbService;
+import com.multitenant.app.master.service.TenantSchemaService;
+import com.multitenant.app.master.service.TenantWarmPoolService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * TenantWarmPoolServiceImpl
+ *
+ * Concrete implementation of the warm tenant database pool.
+ *
+ * A single background thread creates databases named
+ * tenant_warm_<random> with the schema of
+ * TenantSchemaService and records each one once ready.
+ * Refill runs on startup, after every claim and
+ * periodically; requests arriving while one is queued
+ * are coalesced. Warm databases have no tenant
+ * configuration yet, so their pools are opened from the
+ * provisioning host settings and registered for routing;
+ * a database whose schema fails is dropped again.
+ *
+ * Claims lock rows with SKIP LOCKED, so nodes claiming
+ * concurrently get different databases. Nodes refill
+ * independently and may briefly overshoot the target.
+ *
+ * Pools opened while creating a warm database are closed
+ * right away unless pre-started pools are enabled, in
+ * which case refill keeps them open until claimed.
+ */
+@Slf4j
+@Service
+public class TenantWarmPoolServiceImpl implements TenantWarmPoolService {
+
+	/* Name prefix of pre-provisioned databases */
+	private static final String WARM_DB_PREFIX = "tenant_warm_";
+
+	/* Records and claims warm databases */
+	private final TenantWarmDatabaseRepository warmDatabaseRepository;
+
+	/* Creates physical databases */
+	private final TenantPhysicalDbService physicalDbService;
+
+	/* Creates and upgrades tenant schema */
+	private final TenantSchemaService schemaService;
+
+	/* Opens pools of warm databases */
+	private final TenantDataSourceResolver dataSourceResolver;
+
+	/* Closes pools of warm databases */
+	private final TenantDataSourceRegistry dataSourceRegistry;
+
+	/* Claims each database in its own master transaction */
+	private final TransactionTemplate transactionTemplate;
+
+	/* Enables warm pool */
+	private final boolean enabled;
+
+	/* Warm databases kept ready */
+	private final int size;
+
+	/* Keeps pools of warm databases open */
+	private final boolean prestartPools;
+
+	/* Server hosting new dedicated tenant databases */
+	private final String dbHost;
+
+	/* Port of that server */
+	private final int dbPort;
+
+	/* Username on that server */
+	private final String dbUsername;
+
+	/* Password on that server */
+	private final String dbPassword;
+
+	/* Runs refills one at a time */
+	private final ThreadPoolTaskExecutor refiller;
+
+	/* Whether a refill is queued and not yet started */
+	private final AtomicBoolean refillQueued = new AtomicBoolean();
+
+	public TenantWarmPoolServiceImpl(
+			TenantWarmDatabaseRepository warmDatabaseRepository,
+			TenantPhysicalDbService physicalDbService,
+			TenantSchemaService schemaService,
+			TenantDataSourceResolver dataSourceResolver,
+			TenantDataSourceRegistry dataSourceRegistry,
+			@Qualifier("masterTransactionManager") PlatformTransactionManager transactionManager,
+			@Value("${tenant.warm-pool.enabled:true}") boolean enabled,
+			@Value("${tenant.warm-pool.size:5}") int size,
+			@Value("${tenant.warm-pool.prestart-pools:false}") boolean prestartPools,
+			@Value("${tenant.provisioning.db-host:localhost}") String dbHost,
+			@Value("${tenant.provisioning.db-port:3306}") int dbPort,
+			@Value("${tenant.provisioning.db-username:root}") String dbUsername,
+			@Value("${tenant.provisioning.db-password:}") String dbPassword) {
+		this.warmDatabaseRepository = warmDatabaseRepository;
+		this.physicalDbService = physicalDbService;
+		this.schemaService = schemaService;
+		this.dataSourceResolver = dataSourceResolver;
+		this.dataSourceRegistry = dataSourceRegistry;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.size = size;
+		this.prestartPools = prestartPools;
+		this.dbHost = dbHost;
+		this.dbPort = dbPort;
+		this.dbUsername = dbUsername;
+		this.dbPassword = dbPassword;
+
+		this.refiller = new ThreadPoolTaskExecutor();
+		this.refiller.setCorePoolSize(1);
+		this.refiller.setMaxPoolSize(1);
+		// One coalesced refill and the startup upgrade
+		this.refiller.setQueueCapacity(2);
+		this.refiller.setThreadNamePrefix("tenant-warm-pool-");
+		this.refiller.setDaemon(true);
+		this.refiller.initialize();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<String> claimDatabase() {
+		if (!enabled)
+			return Optional.empty();
+
+		// Lock and delete in one transaction, row is visible to nobody once committed
+		Optional<String> claimed = transactionTemplate.execute(status ->
+			warmDatabaseRepository.lockNextFree().map(warm -> {
+				warmDatabaseRepository.delete(warm);
+				return warm.getDbName();
+			}));
+
+		// Replace claimed database, refill sees committed pool size
+		requestRefill();
+		return claimed != null ? claimed : Optional.empty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void releaseDatabase(String databaseName) {
+		TenantWarmDatabaseModel warm = new TenantWarmDatabaseModel();
+		warm.setDbName(databaseName);
+		try {
+			warmDatabaseRepository.save(warm);
+		} catch (DataIntegrityViolationException e) {
+			// Already back in the pool
+		} catch (DataAccessException e) {
+			// Database stays unused, onboarding failure is reported anyway
+			log.warn("Could not return warm tenant database {}: {}", databaseName, e.getMessage());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void discardDatabase(String databaseName) {
+		try {
+			dataSourceRegistry.evict(databaseName);
+			physicalDbService.dropDatabase(databaseName);
+		} catch (DataAccessException e) {
+			log.warn("Could not drop claimed warm tenant database {}: {}", databaseName, e.getMessage());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${tenant.warm-pool.refill-interval-ms:60000}")
+	public void requestRefill() {
+		if (!enabled || !refillQueued.compareAndSet(false, true))
+			return;
+		try {
+			refiller.execute(() -> {
+				refillQueued.set(false);
+				refill();
+			});
+		} catch (TaskRejectedException e) {
+			refillQueued.set(false);
+		}
+	}
+
+	/**
+	 * Creates warm databases until pool reaches target
+	 * size, stopping at first failure until next refill.
+	 */
+	private void refill() {
+		for (long ready = warmDatabaseRepository.count(); ready < size; ready++) {
+			String dbName = WARM_DB_PREFIX + UUID.randomUUID().toString().replace("-", "");
+			try {
+				physicalDbService.createDatabase(dbName);
+			} catch (RuntimeException e) {
+				log.warn("Could not create warm tenant database {}: {}", dbName, e.getMessage());
+				return;
+			}
+
+			try {
+				// Schema is created through routing, which finds the registered pool
+				dataSourceResolver.registerDataSource(warmDbConfig(dbName));
+				schemaService.createTenantSchema(dbName);
+				if (!prestartPools)
+					dataSourceRegistry.evict(dbName);
+
+				// Record only once schema is complete
+				TenantWarmDatabaseModel warm = new TenantWarmDatabaseModel();
+				warm.setDbName(dbName);
+				warmDatabaseRepository.save(warm);
+			} catch (RuntimeException e) {
+				log.warn("Could not provision warm tenant database {}: {}", dbName, e.getMessage());
+				// Unrecorded database would never be claimed
+				discardDatabase(dbName);
+				return;
+			}
+		}
+
+		// Reopen pools of warm databases closed as idle
+		if (prestartPools) {
+			for (TenantWarmDatabaseModel warm : warmDatabaseRepository.findAll()) {
+				try {
+					dataSourceResolver.registerDataSource(warmDbConfig(warm.getDbName()));
+				} catch (RuntimeException e) {
+					log.warn("Could not open pool of warm tenant database {}: {}", warm.getDbName(), e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds customer indexes introduced since warm databases
+	 * were created, then fills the pool. Tables are empty, so
+	 * this is cheap; runs on refill thread to keep startup fast.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void refillOnStartup() {
+		if (!enabled)
+			return;
+		refiller.execute(() -> {
+			for (TenantWarmDatabaseModel warm : warmDatabaseRepository.findAll()) {
+				try {
+					dataSourceResolver.registerDataSource(warmDbConfig(warm.getDbName()));
+					schemaService.createTenantSchema(warm.getDbName());
+					schemaService.ensureCustomerIndexes(warm.getDbName());
+					if (!prestartPools)
+						dataSourceRegistry.evict(warm.getDbName());
+				} catch (RuntimeException e) {
+					log.warn("Could not upgrade warm tenant database {}: {}", warm.getDbName(), e.getMessage());
+				}
+			}
+			refill();
+		});
+	}
+
+	/**
+	 * Builds connection settings of warm database, the
+	 * same a dedicated tenant claiming it is recorded with.
+	 */
+	private TenantDbConfigResponseDto warmDbConfig(String dbName) {
+		TenantDbConfigResponseDto config = new TenantDbConfigResponseDto();
+		config.setDbName(dbName);
+		config.setTier(TenantTier.DEDICATED);
+		config.setDbHost(dbHost);
+		config.setDbPort(dbPort);
+		config.setDbUsername(dbUsername);
+		config.setDbPassword(dbPassword);
+		return config;
+	}
+
+	/**
+	 * Stops refill executor on application shutdown.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		refiller.shutdown();
+	}
+
+}
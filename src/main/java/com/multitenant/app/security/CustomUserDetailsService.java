@@ -2,7 +2,7 @@ package com.multitenant.app.security;
 
 import com.multitenant.app.context.TenantContext;
 import com.multitenant.app.tenant.model.UserModel;
-import com.multitenant.app.tenant.repository.UserRepository;
+import com.multitenant.app.tenant.repository.UserLookupRepository;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
 import org.springframework.security.core.userdetails.User;
@@ -18,19 +18,27 @@ import org.springframework.stereotype.Service;
  *
  * Uses TenantContext with routing datasource to ensure
  * user data is fetched from the correct tenant database.
+ *
+ * Loaded users are kept in TenantUserDetailsCache for a
+ * short time to avoid a tenant database round trip on
+ * every authenticated request.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-	/* Repository for accessing tenant user records */
-	private final UserRepository userRepository;
+	/* Query-cached lookup of tenant user records */
+	private final UserLookupRepository userLookupRepository;
+
+	/* Short-lived cache of tenant user credentials */
+	private final TenantUserDetailsCache userDetailsCache;
 
 	/**
 	 * {@inheritDoc}
 	 *
 	 * Authentication Flow:
 	 * - Validates tenant context availability
+	 * - Serves user from cache when available
 	 * - Fetches user from tenant database
 	 * - Maps entity to Spring Security UserDetails
 	 */
@@ -38,13 +46,20 @@ public class CustomUserDetailsService implements UserDetailsService {
 	@NonNull
 	public UserDetails loadUserByUsername(@NonNull String username) {
 		// Ensure tenant context is initialized before querying tenant DB
-		if (TenantContext.getTenantDb() == null) {
+		String tenantKey = TenantContext.getTenantKey();
+		if (tenantKey == null) {
 			throw new UsernameNotFoundException("Tenant context not initialized");
 		}
 
+		// Serve recently loaded user from cache
+		UserDetails cached = userDetailsCache.get(tenantKey, username);
+		if (cached != null)
+			return cached;
+
 		// Fetch user from tenant database
-		UserModel user = userRepository.findByUsername(username)
+		UserModel user = userLookupRepository.findByUsername(username)
 			.orElseThrow(() -> new UsernameNotFoundException("Invalid credentials"));
+		userDetailsCache.put(tenantKey, user.getUsername(), user.getPassword(), user.getRole());
 
 		// Convert tenant user entity to Spring Security compatible user object
 		return User.builder()
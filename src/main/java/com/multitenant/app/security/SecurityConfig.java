@@ -1,6 +1,7 @@
 package com.multitenant.app.security;
 
 import com.multitenant.app.common.constants.api.path.AuthApiPath;
+import com.multitenant.app.common.constants.api.path.CacheApiPath;
 import com.multitenant.app.common.constants.api.path.TenantAdminApiPath;
 import com.multitenant.app.security.jwt.JwtAuthenticationEntryPoint;
 import com.multitenant.app.security.jwt.JwtAuthenticationFilter;
@@ -77,6 +78,8 @@ public class SecurityConfig {
 			.authorizeHttpRequests(auth -> auth
 				.requestMatchers(AuthApiPath.BASE + AuthApiPath.LOGIN).permitAll()
 				.requestMatchers(TenantAdminApiPath.BASE + TenantAdminApiPath.REGISTER).permitAll()
+				.requestMatchers(TenantAdminApiPath.BASE + TenantAdminApiPath.ONBOARDING_JOB).permitAll()
+				.requestMatchers(CacheApiPath.BASE, CacheApiPath.BASE + "/**").hasRole("ADMIN")
 				.anyRequest().authenticated()
 			)
 			.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,80 @@
+package com.multitenant.app.security;
+
+import com.multitenant.app.common.cache.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * TenantUserDetailsCache
+ *
+ * Short-lived, size-bounded cache of tenant user
+ * credentials keyed by (tenant cache key, username).
+ *
+ * Stores immutable snapshots and builds a fresh UserDetails
+ * on every read, because Spring Security erases credentials
+ * of the instance it authenticates.
+ */
+@Component
+public class TenantUserDetailsCache {
+
+	/* Cached user snapshots keyed by tenant cache key and username */
+	private final BoundedCache<String, CachedUser> users;
+
+	public TenantUserDetailsCache(
+			@Value("${security.user-cache.max-size:10000}") int maxSize,
+			@Value("${security.user-cache.ttl-ms:60000}") long ttlMillis) {
+		this.users = new BoundedCache<>(maxSize, ttlMillis);
+	}
+
+	/**
+	 * Returns cached user details or null when absent.
+	 */
+	public UserDetails get(String tenantKey, String username) {
+		CachedUser cached = users.get(key(tenantKey, username));
+		if (cached == null)
+			return null;
+		return User.builder()
+			.username(cached.username)
+			.password(cached.password)
+			.roles(cached.role)
+			.build();
+	}
+
+	/**
+	 * Stores user credentials snapshot.
+	 */
+	public void put(String tenantKey, String username, String password, String role) {
+		users.put(key(tenantKey, username), new CachedUser(username, password, role));
+	}
+
+	/**
+	 * Drops cached entry of given tenant user.
+	 */
+	public void invalidate(String tenantKey, String username) {
+		users.invalidate(key(tenantKey, username));
+	}
+
+	private String key(String tenantKey, String username) {
+		return tenantKey + ":" + username;
+	}
+
+	/* Immutable credentials snapshot */
+	private static final class CachedUser {
+
+		private final String username;
+
+		private final String password;
+
+		private final String role;
+
+		private CachedUser(String username, String password, String role) {
+			this.username = username;
+			this.password = password;
+			this.role = role;
+		}
+
+	}
+
+}
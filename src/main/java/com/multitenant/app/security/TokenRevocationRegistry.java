@@ -0,0 +1,146 @@
+package com.multitenant.app.security;
+
+import com.multitenant.app.common.cache.BoundedCache;
+import com.multitenant.app.context.TenantIds;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TokenRevocationRegistry
+ *
+ * In-memory revocation set used when requests are
+ * authenticated from trusted token claims.
+ *
+ * Holds a "not-before" instant per tenant user: tokens of
+ * that user issued before the instant are rejected.
+ * Revocations are written to the tenant "user_revocations"
+ * table and each tenant snapshot is reconciled from that
+ * table once per reconcile interval, so revocations made
+ * on other nodes are picked up without per-request I/O.
+ * Nothing is recorded unless requests are authenticated
+ * from trusted token claims.
+ *
+ * Token issue times have whole-second precision, so
+ * not-before instants are rounded down to the second:
+ * tokens issued in the second of the revocation stay
+ * valid, so a user re-created or renamed back right
+ * after revocation can log in again.
+ *
+ * A snapshot that cannot be loaded is not cached and
+ * the failure propagates, rejecting authentication
+ * until the tenant database answers again.
+ *
+ * Must be called with TenantContext set to the tenant,
+ * the tenant JdbcTemplate routes by context and rows are
+ * scoped to its tenant ID. Snapshots are keyed by tenant
+ * cache key, pooled tenants sharing a database get their
+ * own.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+	/* MySQL error of missing table (ER_NO_SUCH_TABLE) */
+	private static final int NO_SUCH_TABLE = 1146;
+
+	/* Executes revocation queries inside tenant database */
+	private final JdbcTemplate jdbcTemplate;
+
+	/* Per-tenant revocation snapshots, expiring after reconcile interval */
+	private final BoundedCache<String, Map<String, Instant>> revocations;
+
+	/* Revocations older than token lifetime no longer matter */
+	private final long tokenLifetimeMillis;
+
+	/* Revocations are only checked when requests trust token claims */
+	private final boolean enabled;
+
+	public TokenRevocationRegistry(
+			@Qualifier("tenantJdbcTemplate") JdbcTemplate jdbcTemplate,
+			@Value("${security.revocation.max-tenants:10000}") int maxTenants,
+			@Value("${security.revocation.reconcile-interval-ms:30000}") long reconcileIntervalMillis,
+			@Value("${jwt.expiration}") long tokenLifetimeMillis,
+			@Value("${security.auth.trust-token-claims:false}") boolean enabled) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.revocations = new BoundedCache<>(maxTenants, reconcileIntervalMillis);
+		this.tokenLifetimeMillis = tokenLifetimeMillis;
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Checks whether token of given user was issued
+	 * before the user's latest revocation.
+	 *
+	 * @param tenantKey tenant cache key
+	 * @param username  token subject
+	 * @param issuedAt  token issue time (tokens without it are treated as revoked when user is)
+	 * @throws org.springframework.dao.DataAccessException if revocations cannot be loaded
+	 */
+	public boolean isRevoked(String tenantKey, String username, Instant issuedAt) {
+		Instant notBefore = snapshot(tenantKey).get(username);
+		return notBefore != null && (issuedAt == null || issuedAt.isBefore(notBefore));
+	}
+
+	/**
+	 * Revokes all tokens issued to user before current second.
+	 *
+	 * Persists revocation so that other nodes pick it up on
+	 * reconcile, and updates local set when already loaded.
+	 * No-op unless token claims are trusted.
+	 */
+	public void revokeUser(String tenantKey, String username) {
+		if (!enabled)
+			return;
+
+		Instant notBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		jdbcTemplate.update("""
+			INSERT INTO user_revocations (tenant_id, username, not_before)
+			VALUES (?, ?, ?)
+			ON DUPLICATE KEY UPDATE not_before = VALUES(not_before)
+			""", TenantIds.current(), username, Timestamp.from(notBefore));
+
+		// Loaded snapshot would only see it on next reconcile
+		Map<String, Instant> snapshot = revocations.get(tenantKey);
+		if (snapshot != null)
+			snapshot.put(username, notBefore);
+	}
+
+	/**
+	 * Returns tenant revocation set, reloading it from
+	 * tenant database when missing or due for reconcile.
+	 */
+	private Map<String, Instant> snapshot(String tenantKey) {
+		Map<String, Instant> snapshot = revocations.get(tenantKey);
+		if (snapshot != null)
+			return snapshot;
+
+		snapshot = new ConcurrentHashMap<>();
+		try {
+			Map<String, Instant> loaded = snapshot;
+			jdbcTemplate.query(
+				"SELECT username, not_before FROM user_revocations WHERE tenant_id = ? AND not_before > ?",
+				rs -> {
+					loaded.put(rs.getString("username"),
+						rs.getTimestamp("not_before").toInstant().truncatedTo(ChronoUnit.SECONDS));
+				},
+				TenantIds.current(),
+				Timestamp.from(Instant.now().minusMillis(tokenLifetimeMillis)));
+		} catch (BadSqlGrammarException e) {
+			// Tenant without revocation table has nothing revoked yet, other errors fail closed
+			if (e.getSQLException().getErrorCode() != NO_SUCH_TABLE)
+				throw e;
+		}
+
+		Map<String, Instant> existing = revocations.putIfAbsent(tenantKey, snapshot);
+		return existing != null ? existing : snapshot;
+	}
+
+}
@@ -1,21 +1,27 @@
 package com.multitenant.app.security.jwt;
 
+import com.multitenant.app.config.TenantResolver;
 import com.multitenant.app.context.TenantContext;
-import com.multitenant.app.master.service.TenantLookupService;
+import com.multitenant.app.context.TenantResolution;
 import com.multitenant.app.security.CustomUserDetailsService;
+import com.multitenant.app.security.TokenRevocationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * JwtAuthenticationFilter
@@ -25,30 +31,56 @@ import java.io.IOException;
  *
  * Responsibilities:
  * - Extract and validate JWT token
- * - Resolve tenant database using company code
+ * - Resolve tenant using company code, reusing the tenant
+ *   already resolved from request header when present
+ * - Reject tokens issued for another tenant than the header
  * - Set TenantContext for routing datasource
  * - Authenticate user and set SecurityContext
+ * - Attach tenant DataSource once authenticated
+ *
+ * In trusted-claims mode the authentication is built from
+ * the role claim of the verified token instead of loading
+ * the user, and tokens are checked against the in-memory
+ * revocation set, keeping database I/O off the common path.
  */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	/* JWT utility for token validation and claim extraction */
 	private final JwtTokenProvider jwtProvider;
 
-	/* Resolves tenant database configuration using company code */
-	private final TenantLookupService tenantLookupService;
+	/* Resolves tenant identity and DataSource using company code */
+	private final TenantResolver tenantResolver;
 
 	/* Loads authenticated user details from tenant database */
 	private final CustomUserDetailsService userDetailsService;
 
+	/* Rejects tokens issued before user revocation */
+	private final TokenRevocationRegistry revocationRegistry;
+
+	/* Authenticate from token claims instead of tenant database */
+	private final boolean trustTokenClaims;
+
+	public JwtAuthenticationFilter(
+			JwtTokenProvider jwtProvider,
+			TenantResolver tenantResolver,
+			CustomUserDetailsService userDetailsService,
+			TokenRevocationRegistry revocationRegistry,
+			@Value("${security.auth.trust-token-claims:false}") boolean trustTokenClaims) {
+		this.jwtProvider = jwtProvider;
+		this.tenantResolver = tenantResolver;
+		this.userDetailsService = userDetailsService;
+		this.revocationRegistry = revocationRegistry;
+		this.trustTokenClaims = trustTokenClaims;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
 	 * Security Flow:
 	 * 1. Extract JWT from Authorization header
 	 * 2. Validate token signature and expiration
-	 * 3. Resolve tenant database using company code
+	 * 3. Resolve token tenant and check it matches header tenant
 	 * 4. Set tenant context for routing datasource
 	 * 5. Load user details and set authentication context
 	 */
@@ -62,22 +94,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		if (header != null && header.startsWith("Bearer ")) {
 			String token = header.substring(7);
 
-			if (jwtProvider.validateToken(token)) {
-				String username = jwtProvider.getUsername(token);
-				String companyCode = jwtProvider.getTenantCode(token);
+			// Verify signature and expiration once
+			JwtPrincipal principal = jwtProvider.verify(token);
 
+			if (principal != null) {
 				try {
-					// Resolve tenant database and set routing context
-					var dbConfig = tenantLookupService.findTenantDatabase(companyCode);
-					TenantContext.setTenantDb(dbConfig.getDbName());
-
-					// Load authenticated user from tenant database
-					var userDetails = userDetailsService.loadUserByUsername(username);
-
-					// Build authentication token and set security context
-					var authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-					authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-					SecurityContextHolder.getContext().setAuthentication(authToken);
+					authenticate(request, principal);
 				} catch (Exception e) {
 					// Ignore exception to allow Spring Security to handle unauthorized response
 				}
@@ -86,4 +108,57 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	/**
+	 * Restores tenant context and authentication of verified token.
+	 *
+	 * Leaves request unauthenticated when token tenant differs
+	 * from the tenant resolved from request header, or when the
+	 * token has been revoked.
+	 */
+	private void authenticate(HttpServletRequest request, JwtPrincipal principal) {
+		// Reuse tenant resolved from header, resolve token tenant otherwise
+		TenantResolution headerTenant = TenantContext.getTenant();
+		TenantResolution tenant = headerTenant != null
+			&& principal.getTenantCode().equals(headerTenant.getCompanyCode())
+			? headerTenant
+			: tenantResolver.resolve(principal.getTenantCode());
+
+		// Token of another tenant than the header is never authenticated
+		if (headerTenant != null && !headerTenant.getCacheKey().equals(tenant.getCacheKey()))
+			return;
+		TenantContext.setTenant(tenant);
+
+		// Tokens issued before user revocation stay unauthenticated
+		if (trustTokenClaims
+			&& revocationRegistry.isRevoked(tenant.getCacheKey(), principal.getUsername(), principal.getIssuedAt()))
+			return;
+
+		// Build user from claims or load it from tenant database
+		UserDetails userDetails = trustTokenClaims
+			? fromClaims(principal)
+			: userDetailsService.loadUserByUsername(principal.getUsername());
+
+		// Build authentication token and set security context
+		var authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+		authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+		SecurityContextHolder.getContext().setAuthentication(authToken);
+
+		// Authenticated, routing reuses tenant DataSource for rest of request
+		TenantContext.setTenant(tenantResolver.withDataSource(tenant));
+	}
+
+	/**
+	 * Builds authenticated user from verified token claims.
+	 * Role claim already holds the granted authority name.
+	 */
+	private UserDetails fromClaims(JwtPrincipal principal) {
+		List<SimpleGrantedAuthority> authorities = principal.getRole() != null
+			? List.of(new SimpleGrantedAuthority(principal.getRole()))
+			: List.of();
+		return User.withUsername(principal.getUsername())
+			.password("")
+			.authorities(authorities)
+			.build();
+	}
+
 }
\ No newline at end of file
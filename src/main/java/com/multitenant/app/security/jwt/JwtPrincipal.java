@@ -0,0 +1,42 @@
+package com.multitenant.app.security.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * JwtPrincipal
+ *
+ * Immutable identity extracted from a verified JWT token.
+ *
+ * Produced by a single signature verification so that
+ * callers never need to parse the same token twice.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class JwtPrincipal {
+
+	/* Authenticated username (token subject) */
+	private final String username;
+
+	/* Tenant company code used for routing */
+	private final String tenantCode;
+
+	/* Granted role authority */
+	private final String role;
+
+	/* Token issue time */
+	private final Instant issuedAt;
+
+	/* Token expiration time */
+	private final Instant expiresAt;
+
+	/**
+	 * Checks whether token has expired at given instant.
+	 */
+	public boolean isExpired(Instant now) {
+		return expiresAt != null && !expiresAt.isAfter(now);
+	}
+
+}
@@ -1,7 +1,9 @@
 package com.multitenant.app.security.jwt;
 
+import com.multitenant.app.common.cache.BoundedCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -11,6 +13,10 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 
 /**
@@ -20,10 +26,14 @@ import java.util.Date;
  *
  * Provides functionality to:
  * - Generate signed JWT tokens
- * - Validate token authenticity and expiration
- * - Extract user and tenant identity from token claims
+ * - Verify token authenticity and expiration, extracting
+ *   user and tenant identity from its claims
  *
  * Supports stateless, multi-tenant authentication flow.
+ *
+ * Tokens are verified once per request through a reused
+ * parser, and verified identities may be cached (keyed by
+ * token digest) so repeated requests skip signature checks.
  */
 @Component
 public class JwtTokenProvider {
@@ -36,15 +46,38 @@ public class JwtTokenProvider {
 	@Value("${jwt.expiration}")
 	private long jwtExpiration;
 
+	/* Enables cache of verified tokens */
+	@Value("${jwt.cache.enabled:true}")
+	private boolean cacheEnabled;
+
+	/* Maximum number of cached verified tokens */
+	@Value("${jwt.cache.max-size:10000}")
+	private int cacheMaxSize;
+
+	/* Maximum time a verified token stays cached */
+	@Value("${jwt.cache.ttl-ms:300000}")
+	private long cacheTtl;
+
 	/* HMAC signing key used for JWT signature */
 	private SecretKey secretKey;
 
+	/* Thread-safe parser reused for every verification */
+	private JwtParser jwtParser;
+
+	/* Verified principals keyed by token digest (null when disabled) */
+	private BoundedCache<String, JwtPrincipal> verifiedTokens;
+
 	/**
 	 * Initializes cryptographic signing key after application startup.
 	 */
 	@PostConstruct
 	public void init() {
 		this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+		this.jwtParser = Jwts.parserBuilder()
+			.setSigningKey(secretKey)
+			.build();
+		if (cacheEnabled)
+			this.verifiedTokens = new BoundedCache<>(cacheMaxSize, cacheTtl);
 	}
 
 	/**
@@ -67,43 +100,69 @@ public class JwtTokenProvider {
 	}
 
 	/**
-	 * Validates token signature and expiration.
+	 * Verifies token signature and expiration once and
+	 * returns the authenticated identity.
+	 *
+	 * @param token compact JWT string
+	 * @return verified principal, or null when token is invalid or expired
 	 */
-	public boolean validateToken(String token) {
-		try {
-			Jwts.parserBuilder()
-				.setSigningKey(secretKey)
-				.build()
-				.parseClaimsJws(token);
-			return true;
-		} catch (JwtException e) {
-			return false;
+	public JwtPrincipal verify(String token) {
+		if (verifiedTokens == null)
+			return parsePrincipal(token);
+
+		// Serve repeat tokens from cache while still unexpired
+		String digest = digest(token);
+		JwtPrincipal cached = verifiedTokens.get(digest);
+		if (cached != null) {
+			if (!cached.isExpired(Instant.now()))
+				return cached;
+			verifiedTokens.invalidate(digest);
+			return null;
 		}
-	}
 
-	/**
-	 * Extracts authenticated username from token.
-	 */
-	public String getUsername(String token) {
-		return getClaims(token).getSubject();
+		JwtPrincipal principal = parsePrincipal(token);
+		if (principal != null)
+			verifiedTokens.put(digest, principal);
+		return principal;
 	}
 
 	/**
-	 * Extracts tenant code used for routing datasource.
+	 * Parses and verifies token into principal.
 	 */
-	public String getTenantCode(String token) {
-		return getClaims(token).get("tenant", String.class);
+	private JwtPrincipal parsePrincipal(String token) {
+		try {
+			Claims claims = getClaims(token);
+			return new JwtPrincipal(
+				claims.getSubject(),
+				claims.get("tenant", String.class),
+				claims.get("role", String.class),
+				claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+				claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+		} catch (JwtException | IllegalArgumentException e) {
+			return null;
+		}
 	}
 
 	/**
 	 * Parses JWT and returns claims payload.
 	 */
 	private Claims getClaims(String token) {
-		return Jwts.parserBuilder()
-			.setSigningKey(secretKey)
-			.build()
+		return jwtParser
 			.parseClaimsJws(token)
 			.getBody();
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Computes SHA-256 digest used as cache key,
+	 * keeping keys small and raw tokens out of the cache.
+	 */
+	private String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+}
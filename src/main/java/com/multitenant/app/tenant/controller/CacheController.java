@@ -0,0 +1,49 @@
+package com.multitenant.app.tenant.controller;
+
+import com.multitenant.app.common.constants.api.path.CacheApiPath;
+import com.multitenant.app.context.TenantContext;
+import com.multitenant.app.tenant.dto.response.CacheRegionStatisticsDto;
+import com.multitenant.app.tenant.service.TenantCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * CacheController
+ *
+ * REST controller for second-level cache of
+ * current tenant, restricted to tenant admins.
+ */
+@RestController
+@RequestMapping(CacheApiPath.BASE)
+@RequiredArgsConstructor
+public class CacheController {
+
+	/* Handles tenant cache operations */
+	private final TenantCacheService cacheService;
+
+	/**
+	 * Returns hit, miss and put counts of current tenant
+	 * in cache regions.
+	 */
+	@GetMapping
+	public ResponseEntity<List<CacheRegionStatisticsDto>> getStatistics() {
+		return ResponseEntity.ok(cacheService.getStatistics(TenantContext.getTenantKey()));
+	}
+
+	/**
+	 * Evicts cached entities and query results of current
+	 * tenant; entries of other tenants are kept.
+	 */
+	@DeleteMapping
+	public ResponseEntity<Void> evict() {
+		cacheService.evictTenant(TenantContext.getTenantKey());
+		return ResponseEntity.noContent().build();
+	}
+
+}
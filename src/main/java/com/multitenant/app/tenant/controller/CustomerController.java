@@ -2,16 +2,28 @@ package com.multitenant.app.tenant.controller;
 
 import com.multitenant.app.common.constants.api.path.ApiBasePath;
 import com.multitenant.app.common.constants.api.path.CustomerApiPath;
+import com.multitenant.app.common.pagination.CountMode;
+import com.multitenant.app.common.response.CursorPageResponseDto;
 import com.multitenant.app.common.response.PageResponseDto;
+import com.multitenant.app.tenant.dto.request.CustomerFilterDto;
+import com.multitenant.app.tenant.dto.request.CustomerPatchRequestDto;
 import com.multitenant.app.tenant.dto.request.CustomerRequestDto;
 import com.multitenant.app.tenant.dto.response.CustomerResponseDto;
+import com.multitenant.app.tenant.enums.CustomerFileFormat;
+import com.multitenant.app.tenant.service.CustomerImportService;
 import com.multitenant.app.tenant.service.CustomerService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * CustomerController
  *
@@ -28,6 +40,9 @@ public class CustomerController {
 	/* Handles customer business operations */
 	private final CustomerService customerService;
 
+	/* Handles bulk customer import */
+	private final CustomerImportService customerImportService;
+
 	/**
 	 * Creates a new customer record.
 	 */
@@ -38,6 +53,45 @@ public class CustomerController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(createdCustomer);
 	}
 
+	/**
+	 * Imports customers from CSV or NDJSON body.
+	 *
+	 * Streams one NDJSON result line per input row,
+	 * flushed after every inserted batch.
+	 */
+	@PostMapping(value = CustomerApiPath.IMPORT,
+			consumes = { CustomerFileFormat.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE },
+			produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public void importCustomers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream input,
+			HttpServletResponse response) throws IOException {
+		CustomerFileFormat format = CustomerFileFormat.fromContentType(contentType);
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+		customerImportService.importCustomers(input, format, response.getOutputStream());
+	}
+
+	/**
+	 * Exports customers matching optional search and
+	 * filters as CSV or NDJSON, streamed without paging.
+	 */
+	@GetMapping(CustomerApiPath.EXPORT)
+	public void exportCustomers(
+		@RequestParam(required = false) String search,
+		@Valid @ModelAttribute CustomerFilterDto filter,
+		@RequestParam(defaultValue = "csv") String format,
+		HttpServletResponse response) throws IOException {
+
+		CustomerFileFormat fileFormat = CustomerFileFormat.fromString(format);
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentType(fileFormat == CustomerFileFormat.CSV
+				? CustomerFileFormat.TEXT_CSV_VALUE
+				: MediaType.APPLICATION_NDJSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=\"customers." + fileFormat.name().toLowerCase() + "\"");
+		customerService.exportCustomers(search, filter, fileFormat, response.getOutputStream());
+	}
+
 	/**
 	 * Fetches customer details by ID.
 	 */
@@ -48,17 +102,44 @@ public class CustomerController {
 	}
 
 	/**
-	 * Returns paginated customer list with search and sorting.
+	 * Returns paginated customer list with search, typed
+	 * filters and sorting by indexed fields.
+	 *
+	 * Count mode "none" skips total count, "estimate" serves
+	 * a cached count and "exact" counts on every request.
 	 */
 	@GetMapping
 	public ResponseEntity<PageResponseDto<CustomerResponseDto>> getCustomers(
 		@RequestParam(required = false) String search,
+		@Valid @ModelAttribute CustomerFilterDto filter,
 		@RequestParam(defaultValue = "0") Long pageNo,
 		@RequestParam(defaultValue = "10") Long pageSize,
 		@RequestParam(defaultValue = "id") String sortBy,
+		@RequestParam(defaultValue = "asc") String sortDir,
+		@RequestParam(defaultValue = "exact") String count) {
+
+		PageResponseDto<CustomerResponseDto> response =
+			customerService.getCustomers(search, filter, pageNo, pageSize, sortBy, sortDir, CountMode.fromString(count));
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * Returns customer list page by cursor with search, filters and sorting.
+	 *
+	 * Seeks past previous page instead of using page offsets
+	 * and skips total count, keeping deep pages fast.
+	 */
+	@GetMapping(ApiBasePath.CURSOR)
+	public ResponseEntity<CursorPageResponseDto<CustomerResponseDto>> getCustomersByCursor(
+		@RequestParam(required = false) String search,
+		@Valid @ModelAttribute CustomerFilterDto filter,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "10") Long pageSize,
+		@RequestParam(defaultValue = "id") String sortBy,
 		@RequestParam(defaultValue = "asc") String sortDir) {
 
-		PageResponseDto<CustomerResponseDto> response = customerService.getCustomers(search, pageNo, pageSize, sortBy, sortDir);
+		CursorPageResponseDto<CustomerResponseDto> response =
+			customerService.getCustomersByCursor(search, filter, cursor, pageSize, sortBy, sortDir);
 		return ResponseEntity.ok(response);
 	}
 
@@ -71,6 +152,16 @@ public class CustomerController {
 		return ResponseEntity.ok(updatedCustomer);
 	}
 
+	/**
+	 * Partially updates customer, changing only provided fields.
+	 */
+	@PatchMapping(ApiBasePath.ID)
+	public ResponseEntity<Void> patchCustomer(@PathVariable Long id,
+			@Valid @RequestBody CustomerPatchRequestDto customerPatchRequestDto) {
+		customerService.patchCustomer(id, customerPatchRequestDto);
+		return ResponseEntity.noContent().build();
+	}
+
 	/**
 	 * Deletes customer by ID.
 	 */
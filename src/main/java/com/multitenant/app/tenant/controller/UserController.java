@@ -2,8 +2,11 @@ package com.multitenant.app.tenant.controller;
 
 import com.multitenant.app.common.constants.api.path.ApiBasePath;
 import com.multitenant.app.common.constants.api.path.UserApiPath;
+import com.multitenant.app.common.pagination.CountMode;
+import com.multitenant.app.common.response.CursorPageResponseDto;
 import com.multitenant.app.common.response.PageResponseDto;
 import com.multitenant.app.tenant.dto.request.UserCreateRequestDto;
+import com.multitenant.app.tenant.dto.request.UserPatchRequestDto;
 import com.multitenant.app.tenant.dto.request.UserUpdateRequestDto;
 import com.multitenant.app.tenant.dto.response.UserResponseDto;
 import com.multitenant.app.tenant.service.UserService;
@@ -49,15 +52,34 @@ public class UserController {
 
 	/**
 	 * Returns paginated list of tenant users.
+	 *
+	 * Count mode "none" skips total count, "estimate" serves
+	 * a cached count and "exact" counts on every request.
 	 */
 	@GetMapping
 	public ResponseEntity<PageResponseDto<UserResponseDto>> getUsers(
 		@RequestParam(defaultValue = "0") Long pageNo,
 		@RequestParam(defaultValue = "10") Long pageSize,
 		@RequestParam(defaultValue = "id") String sortBy,
+		@RequestParam(defaultValue = "asc") String sortDir,
+		@RequestParam(defaultValue = "exact") String count) {
+
+		PageResponseDto<UserResponseDto> response =
+			userService.getUsers(pageNo, pageSize, sortBy, sortDir, CountMode.fromString(count));
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * Returns tenant users page by cursor, without total count.
+	 */
+	@GetMapping(ApiBasePath.CURSOR)
+	public ResponseEntity<CursorPageResponseDto<UserResponseDto>> getUsersByCursor(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "10") Long pageSize,
+		@RequestParam(defaultValue = "id") String sortBy,
 		@RequestParam(defaultValue = "asc") String sortDir) {
 
-		PageResponseDto<UserResponseDto> response = userService.getUsers(pageNo, pageSize, sortBy, sortDir);
+		CursorPageResponseDto<UserResponseDto> response = userService.getUsersByCursor(cursor, pageSize, sortBy, sortDir);
 		return ResponseEntity.ok(response);
 	}
 
@@ -70,6 +92,15 @@ public class UserController {
 		return ResponseEntity.ok(updatedUser);
 	}
 
+	/**
+	 * Partially updates user, changing only provided fields.
+	 */
+	@PatchMapping(ApiBasePath.ID)
+	public ResponseEntity<Void> patchUser(@PathVariable Long id, @Valid @RequestBody UserPatchRequestDto requestDto) {
+		userService.patchUser(id, requestDto);
+		return ResponseEntity.noContent().build();
+	}
+
 	/**
 	 * Deletes user by ID.
 	 */
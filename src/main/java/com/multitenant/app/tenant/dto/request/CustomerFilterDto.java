@@ -0,0 +1,57 @@
+package com.multitenant.app.tenant.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * CustomerFilterDto
+ *
+ * Typed filters of customer listing, bound
+ * from query parameters.
+ *
+ * Every filter compiles to an index-friendly
+ * predicate (equality, range or prefix match);
+ * absent filters are not applied. Date ranges
+ * are inclusive.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CustomerFilterDto {
+
+	private String gender;
+
+	@Min(value = 0, message = "Minimum age must be greater than or equal to 0.")
+	@Max(value = 120, message = "Minimum age must be less than or equal to 120.")
+	private Integer minAge;
+
+	@Min(value = 0, message = "Maximum age must be greater than or equal to 0.")
+	@Max(value = 120, message = "Maximum age must be less than or equal to 120.")
+	private Integer maxAge;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate dobFrom;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate dobTo;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate createdFrom;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate createdTo;
+
+	@Size(max = 150, message = "Email prefix must not exceed 150 characters.")
+	private String emailPrefix;
+
+	@Pattern(regexp = "^[0-9]{1,10}$", message = "Mobile prefix must contain up to 10 digits.")
+	private String mobilePrefix;
+
+}
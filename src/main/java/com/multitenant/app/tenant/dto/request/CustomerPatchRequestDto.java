@@ -0,0 +1,58 @@
+package com.multitenant.app.tenant.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * CustomerPatchRequestDto
+ *
+ * Request DTO used for partial update of
+ * customer records inside tenant database.
+ *
+ * Only non-null fields are updated; present
+ * fields follow the same validation rules as
+ * full customer requests.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CustomerPatchRequestDto {
+
+	@Pattern(regexp = "^[A-Za-z0-9]+$", message = "First name must contain only alphanumeric characters.")
+	@Size(max = 50, message = "First name must not exceed 50 characters.")
+	private String firstName;
+
+	@Pattern(regexp = "^[A-Za-z0-9]+$", message = "Last name contains invalid characters")
+	@Size(max = 50, message = "Last name must not exceed 50 characters")
+	private String lastName;
+
+	private LocalDate dateOfBirth;
+
+	@Min(value = 0, message = "Age must be greater than or equal to 0.")
+	@Max(value = 120, message = "Age must be less than or equal to 120.")
+	private Byte age;
+
+	private String gender;
+
+	@Pattern(regexp = "^[6-9][0-9]{9}$", message = "Mobile number must be a valid 10-digit Indian mobile number.")
+	private String mobile;
+
+	@Email(message = "Email address must be a valid format.")
+	@Size(min = 1, max = 150, message = "Email address must be between 1 and 150 characters.")
+	private String email;
+
+	@Pattern(regexp = "^[A-Za-z0-9,.\\-/#@\\s\\r\\n]+$", message = "Address line 1 contains invalid characters.")
+	@Size(max = 255, message = "Address line 1 must not exceed 255 characters.")
+	private String address1;
+
+	@Pattern(regexp = "^[A-Za-z0-9,.\\-/#@\\s\\r\\n]+$", message = "Address line 2 contains invalid characters.")
+	@Size(max = 255, message = "Address line 2 must not exceed 255 characters.")
+	private String address2;
+
+}
\ No newline at end of file
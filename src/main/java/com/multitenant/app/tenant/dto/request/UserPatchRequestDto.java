@@ -0,0 +1,29 @@
+package com.multitenant.app.tenant.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * UserPatchRequestDto
+ *
+ * Request DTO used for partial update of tenant user details.
+ * Only non-null fields are updated; password is excluded.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class UserPatchRequestDto {
+
+	@Email(message = "Email address must be a valid format.")
+	@Size(min = 1, max = 150, message = "Email address must be between 1 and 150 characters.")
+	private String email;
+
+	@Size(min = 2, max = 50, message = "Username must be between 2 and 50 characters.")
+	private String username;
+
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.multitenant.app.tenant.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * CacheRegionStatisticsDto
+ *
+ * Response DTO reporting hit and miss
+ * counts of one second-level cache region.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CacheRegionStatisticsDto {
+
+	/* Cache region name */
+	private String region;
+
+	/* Lookups answered from cache */
+	private long hitCount;
+
+	/* Lookups that went to the database */
+	private long missCount;
+
+	/* Entries stored into cache */
+	private long putCount;
+
+}
@@ -0,0 +1,36 @@
+package com.multitenant.app.tenant.dto.response;
+
+import com.multitenant.app.tenant.enums.CustomerImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * CustomerImportResultDto
+ *
+ * Response DTO reporting outcome of one
+ * bulk customer import row.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CustomerImportResultDto {
+
+	/* Record number in input (one-based, header excluded) */
+	private long row;
+
+	/* Row outcome */
+	private CustomerImportStatus status;
+
+	/* Generated customer ID of created row */
+	private Long id;
+
+	/* Offending field of rejected row */
+	private String field;
+
+	/* Rejection reason */
+	private String message;
+
+}
@@ -0,0 +1,52 @@
+package com.multitenant.app.tenant.enums;
+
+import com.multitenant.app.common.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+/**
+ * CustomerFileFormat
+ *
+ * File formats supported by bulk customer
+ * import and streaming export.
+ */
+public enum CustomerFileFormat {
+
+	/* Comma separated values with header row of field names */
+	CSV,
+
+	/* One JSON customer object per line */
+	NDJSON;
+
+	/* CSV media type */
+	public static final String TEXT_CSV_VALUE = "text/csv";
+
+	/**
+	 * Resolves import format from request content type.
+	 *
+	 * @throws BadRequestException if content type is not supported
+	 */
+	public static CustomerFileFormat fromContentType(String contentType) {
+		if (contentType != null) {
+			MediaType mediaType = MediaType.parseMediaType(contentType);
+			if (mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE)))
+				return CSV;
+			if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON))
+				return NDJSON;
+		}
+		throw new BadRequestException("Unsupported import content type: " + contentType);
+	}
+
+	/**
+	 * Resolves file format from request parameter (case-insensitive).
+	 *
+	 * @throws BadRequestException if format is not supported
+	 */
+	public static CustomerFileFormat fromString(String value) {
+		for (CustomerFileFormat format : values()) {
+			if (format.name().equalsIgnoreCase(value))
+				return format;
+		}
+		throw new BadRequestException("Unsupported export format: " + value);
+	}
+
+}
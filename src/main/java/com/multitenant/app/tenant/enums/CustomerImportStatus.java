@@ -0,0 +1,22 @@
+package com.multitenant.app.tenant.enums;
+
+/**
+ * CustomerImportStatus
+ *
+ * Outcome of a single row of bulk customer import.
+ */
+public enum CustomerImportStatus {
+
+	/* Row inserted */
+	CREATED,
+
+	/* Row malformed or failing validation rules */
+	INVALID,
+
+	/* Row violates unique email or mobile */
+	DUPLICATE,
+
+	/* Row rejected by database for another reason */
+	FAILED
+
+}
@@ -0,0 +1,16 @@
+package com.multitenant.app.tenant.enums;
+
+/**
+ * CustomerSearchMode
+ *
+ * Strategy used by customer global search.
+ */
+public enum CustomerSearchMode {
+
+	/* Substring match on every searchable column (full scan) */
+	LIKE,
+
+	/* FULLTEXT index match with exact typed predicates */
+	FULLTEXT
+
+}
@@ -1,12 +1,17 @@
 package com.multitenant.app.tenant.model;
 
+import com.multitenant.app.config.TenantCacheRegions;
+import com.multitenant.app.config.TenantRowFilter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -28,8 +33,11 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @Table(name = "customers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TenantCacheRegions.CUSTOMERS)
 @DynamicUpdate
-public class CustomerModel {
+@Filter(name = TenantRowFilter.NAME)
+public class CustomerModel extends TenantScopedModel {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
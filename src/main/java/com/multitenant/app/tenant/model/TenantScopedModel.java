@@ -0,0 +1,40 @@
+package com.multitenant.app.tenant.model;
+
+import com.multitenant.app.context.TenantContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * TenantScopedModel
+ *
+ * Base of tenant entities stored with the ID of
+ * their owning tenant.
+ *
+ * Dedicated tenant databases hold rows of one tenant,
+ * pooled databases of many; the tenant row filter reads
+ * the same column in both. New rows take the tenant of
+ * TenantContext.
+ */
+@Getter
+@Setter
+@MappedSuperclass
+public abstract class TenantScopedModel {
+
+	@Column(name = "tenant_id", nullable = false, updatable = false, columnDefinition = "BINARY(16)")
+	private UUID tenantId;
+
+	/**
+	 * Assigns current tenant to new row.
+	 */
+	@PrePersist
+	void assignTenant() {
+		if (tenantId == null)
+			tenantId = TenantContext.getTenantId();
+	}
+
+}
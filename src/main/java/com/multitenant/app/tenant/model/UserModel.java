@@ -1,12 +1,17 @@
 package com.multitenant.app.tenant.model;
 
+import com.multitenant.app.config.TenantCacheRegions;
+import com.multitenant.app.config.TenantRowFilter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -23,12 +28,15 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TenantCacheRegions.USERS)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @DynamicUpdate
-public class UserModel {
+@Filter(name = TenantRowFilter.NAME)
+public class UserModel extends TenantScopedModel {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
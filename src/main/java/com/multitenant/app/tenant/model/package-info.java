@@ -0,0 +1,19 @@
+/**
+ * Tenant database entities.
+ *
+ * Every entity carries the owning tenant ID and is
+ * restricted to the current tenant by TenantRowFilter.
+ */
+@FilterDef(
+	name = TenantRowFilter.NAME,
+	defaultCondition = "tenant_id = :" + TenantRowFilter.PARAMETER,
+	parameters = @ParamDef(name = TenantRowFilter.PARAMETER, type = UUID.class, resolver = TenantRowFilter.CurrentTenantId.class),
+	autoEnabled = true,
+	applyToLoadByKey = true)
+package com.multitenant.app.tenant.model;
+
+import com.multitenant.app.config.TenantRowFilter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+
+import java.util.UUID;
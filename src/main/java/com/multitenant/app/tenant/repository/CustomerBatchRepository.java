@@ -0,0 +1,129 @@
+package com.multitenant.app.tenant.repository;
+
+import com.multitenant.app.context.TenantIds;
+import com.multitenant.app.tenant.model.CustomerModel;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CustomerBatchRepository
+ *
+ * JDBC repository inserting customers in batches.
+ *
+ * Customer IDs use IDENTITY generation, which makes
+ * Hibernate insert rows one statement at a time; this
+ * repository sends a whole batch at once instead, which
+ * the driver rewrites into multi-row INSERT statements
+ * (rewriteBatchedStatements).
+ */
+@Repository
+public class CustomerBatchRepository {
+
+	/* Customer insert statement */
+	private static final String INSERT = """
+		INSERT INTO customers
+			(tenant_id, first_name, last_name, date_of_birth, age, gender, mobile, email, address1, address2)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	/* Executes statements inside tenant database */
+	private final JdbcTemplate jdbcTemplate;
+
+	public CustomerBatchRepository(@Qualifier("tenantJdbcTemplate") JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Inserts customers as one JDBC batch.
+	 *
+	 * @param customers customers to insert
+	 * @return generated IDs in insertion order
+	 */
+	public List<Long> insertAll(List<CustomerModel> customers) {
+		byte[] tenantId = TenantIds.current();
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.batchUpdate(
+			con -> con.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS),
+			new BatchPreparedStatementSetter() {
+
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					bind(ps, tenantId, customers.get(i));
+				}
+
+				@Override
+				public int getBatchSize() {
+					return customers.size();
+				}
+
+			},
+			keyHolder);
+
+		return keyHolder.getKeyList()
+			.stream()
+			.map(keys -> firstKey(keys))
+			.toList();
+	}
+
+	/**
+	 * Inserts single customer.
+	 *
+	 * @param customer customer to insert
+	 * @return generated ID
+	 */
+	public Long insert(CustomerModel customer) {
+		byte[] tenantId = TenantIds.current();
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(con -> {
+			PreparedStatement ps = con.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS);
+			bind(ps, tenantId, customer);
+			return ps;
+		}, keyHolder);
+		return firstKey(keyHolder.getKeys());
+	}
+
+	/**
+	 * Binds current tenant and customer columns to insert statement.
+	 */
+	private void bind(PreparedStatement ps, byte[] tenantId, CustomerModel customer) throws SQLException {
+		ps.setBytes(1, tenantId);
+		ps.setString(2, customer.getFirstName());
+		ps.setString(3, customer.getLastName());
+		ps.setDate(4, customer.getDateOfBirth() != null ? Date.valueOf(customer.getDateOfBirth()) : null);
+		if (customer.getAge() != null)
+			ps.setByte(5, customer.getAge());
+		else
+			ps.setNull(5, Types.TINYINT);
+		if (customer.getGender() != null)
+			ps.setByte(6, customer.getGender());
+		else
+			ps.setNull(6, Types.TINYINT);
+		ps.setString(7, customer.getMobile());
+		ps.setString(8, customer.getEmail());
+		ps.setString(9, customer.getAddress1());
+		ps.setString(10, customer.getAddress2());
+	}
+
+	/**
+	 * Extracts generated ID from driver key map.
+	 */
+	private Long firstKey(Map<String, Object> keys) {
+		if (keys == null || keys.isEmpty())
+			return null;
+		Object key = keys.values().iterator().next();
+		return key instanceof Number number ? number.longValue() : null;
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.multitenant.app.tenant.repository;
+
+import com.multitenant.app.tenant.model.CustomerModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * CustomerStreamRepository
+ *
+ * Streams customers matching a specification
+ * through a forward-only result set.
+ *
+ * Fetch size Integer.MIN_VALUE makes MySQL Connector/J
+ * stream rows one by one instead of buffering the whole
+ * result, and every entity is detached once consumed, so
+ * memory use does not grow with table size.
+ *
+ * Must be called inside a tenant transaction; no other
+ * statement may run on the connection while streaming.
+ */
+@Repository
+public class CustomerStreamRepository {
+
+	/* Tenant persistence context bound to current transaction */
+	@PersistenceContext(unitName = "tenantPU")
+	private EntityManager entityManager;
+
+	/**
+	 * Passes every matching customer, ordered by ID,
+	 * to given consumer.
+	 *
+	 * @param spec filter specification
+	 * @param consumer receives each customer before it is detached
+	 */
+	public void forEach(Specification<CustomerModel> spec, Consumer<CustomerModel> consumer) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<CustomerModel> query = cb.createQuery(CustomerModel.class);
+		Root<CustomerModel> root = query.from(CustomerModel.class);
+		Predicate predicate = spec.toPredicate(root, query, cb);
+		if (predicate != null)
+			query.where(predicate);
+		query.orderBy(cb.asc(root.get("id")));
+
+		try (Stream<CustomerModel> customers = entityManager.createQuery(query)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream()) {
+			customers.forEach(customer -> {
+				consumer.accept(customer);
+				entityManager.detach(customer);
+			});
+		}
+	}
+
+}
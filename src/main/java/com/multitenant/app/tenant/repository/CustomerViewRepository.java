@@ -0,0 +1,90 @@
+package com.multitenant.app.tenant.repository;
+
+import com.multitenant.app.common.pagination.SliceQueries;
+import com.multitenant.app.tenant.dto.response.CustomerResponseDto;
+import com.multitenant.app.tenant.enums.Gender;
+import com.multitenant.app.tenant.model.CustomerModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+/**
+ * CustomerViewRepository
+ *
+ * Read-only customer queries selecting response
+ * columns straight into CustomerResponseDto.
+ *
+ * Results are constructor projections, never managed
+ * entities: nothing enters the persistence context, no
+ * dirty-checking snapshot is kept and no reflective
+ * mapping runs per row. Gender is decoded by a CASE
+ * expression in the query itself.
+ */
+@Repository
+public class CustomerViewRepository {
+
+	/* Tenant persistence context */
+	@PersistenceContext(unitName = "tenantPU")
+	private EntityManager entityManager;
+
+	/**
+	 * Fetches page of customer responses matching specification.
+	 *
+	 * @param spec     filter specification
+	 * @param pageable requested page and sorting
+	 * @return page content with next page flag
+	 */
+	public Slice<CustomerResponseDto> findSlice(Specification<CustomerModel> spec, Pageable pageable) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<CustomerResponseDto> query = cb.createQuery(CustomerResponseDto.class);
+		Root<CustomerModel> root = query.from(CustomerModel.class);
+		query.select(select(root, cb));
+
+		Predicate predicate = spec.toPredicate(root, query, cb);
+		if (predicate != null)
+			query.where(predicate);
+		if (pageable.getSort().isSorted())
+			query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+		return SliceQueries.slice(entityManager.createQuery(query), pageable);
+	}
+
+	/**
+	 * Builds response constructor selection.
+	 */
+	private CompoundSelection<CustomerResponseDto> select(Root<CustomerModel> root,
+			CriteriaBuilder cb) {
+		return cb.construct(CustomerResponseDto.class,
+			root.get("id"),
+			root.get("firstName"),
+			root.get("lastName"),
+			root.get("dateOfBirth"),
+			root.get("age"),
+			gender(root, cb),
+			root.get("mobile"),
+			root.get("email"),
+			root.get("address1"),
+			root.get("address2"));
+	}
+
+	/**
+	 * Decodes stored gender value into its name.
+	 */
+	private Expression<String> gender(Root<CustomerModel> root, CriteriaBuilder cb) {
+		CriteriaBuilder.SimpleCase<Byte, String> gender = cb.selectCase(root.<Byte>get("gender"));
+		for (Gender value : Gender.values())
+			gender.when(value.getValue(), value.name());
+		return gender.otherwise(cb.nullLiteral(String.class));
+	}
+
+}
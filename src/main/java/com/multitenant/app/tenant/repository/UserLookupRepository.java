@@ -0,0 +1,48 @@
+package com.multitenant.app.tenant.repository;
+
+import com.multitenant.app.config.TenantCacheRegions;
+import com.multitenant.app.context.TenantContext;
+import com.multitenant.app.tenant.model.UserModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * UserLookupRepository
+ *
+ * User lookups answered from the second-level
+ * query cache.
+ *
+ * Queries bind the current tenant cache key, so equal
+ * queries of different tenants get different query cache
+ * keys and never share results. Hibernate drops them
+ * whenever the users table is written.
+ */
+@Repository
+public class UserLookupRepository {
+
+	/* Tenant persistence context */
+	@PersistenceContext(unitName = "tenantPU")
+	private EntityManager entityManager;
+
+	/**
+	 * Finds user by username, used during login.
+	 */
+	@Transactional(value = "tenantTransactionManager", readOnly = true)
+	public Optional<UserModel> findByUsername(String username) {
+		// Always-true tenant condition only makes tenant part of the query cache key
+		return entityManager.createQuery("select u from UserModel u where u.username = :username and :"
+				+ TenantCacheRegions.TENANT_PARAMETER + " <> ''", UserModel.class)
+			.setParameter("username", username)
+			.setParameter(TenantCacheRegions.TENANT_PARAMETER, TenantContext.getTenantKey())
+			.setHint(HibernateHints.HINT_CACHEABLE, true)
+			.setHint(HibernateHints.HINT_CACHE_REGION, TenantCacheRegions.QUERY)
+			.getResultStream()
+			.findFirst();
+	}
+
+}
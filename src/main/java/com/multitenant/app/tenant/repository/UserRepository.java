@@ -2,6 +2,8 @@ package com.multitenant.app.tenant.repository;
 
 import com.multitenant.app.tenant.model.UserModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,12 +15,11 @@ import java.util.Optional;
  * tenant application users.
  *
  * Used for:
- * - Authentication lookup
  * - User CRUD operations
  * - Uniqueness validation
  */
 @Repository
-public interface UserRepository extends JpaRepository<UserModel, Long> {
+public interface UserRepository extends JpaRepository<UserModel, Long>, JpaSpecificationExecutor<UserModel> {
 
 	/* Checks duplicate email */
 	boolean existsByEmail(String email);
@@ -26,7 +27,8 @@ public interface UserRepository extends JpaRepository<UserModel, Long> {
 	/* Checks duplicate username */
 	boolean existsByUsername(String username);
 
-	/* Fetches user during login */
-	Optional<UserModel> findByUsername(String username);
+	/* Fetches only username, used to invalidate credentials on writes */
+	@Query("select u.username from UserModel u where u.id = :id")
+	Optional<String> findUsernameById(Long id);
 
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.multitenant.app.tenant.repository;
+
+import com.multitenant.app.common.pagination.SliceQueries;
+import com.multitenant.app.tenant.dto.response.UserResponseDto;
+import com.multitenant.app.tenant.model.UserModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * UserViewRepository
+ *
+ * Read-only user queries selecting response
+ * columns straight into UserResponseDto.
+ *
+ * Never reads the password column, and results are
+ * constructor projections rather than managed entities,
+ * so nothing is kept for dirty checking.
+ */
+@Repository
+public class UserViewRepository {
+
+	/* Tenant persistence context */
+	@PersistenceContext(unitName = "tenantPU")
+	private EntityManager entityManager;
+
+	/**
+	 * Finds user response by ID.
+	 */
+	public Optional<UserResponseDto> findById(Long id) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<UserResponseDto> query = cb.createQuery(UserResponseDto.class);
+		Root<UserModel> root = query.from(UserModel.class);
+		query.select(select(root, cb)).where(cb.equal(root.get("id"), id));
+
+		List<UserResponseDto> rows = entityManager.createQuery(query).getResultList();
+		return rows.stream().findFirst();
+	}
+
+	/**
+	 * Fetches page of user responses.
+	 *
+	 * @param pageable requested page and sorting
+	 * @return page content with next page flag
+	 */
+	public Slice<UserResponseDto> findSlice(Pageable pageable) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<UserResponseDto> query = cb.createQuery(UserResponseDto.class);
+		Root<UserModel> root = query.from(UserModel.class);
+		query.select(select(root, cb));
+		if (pageable.getSort().isSorted())
+			query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+		return SliceQueries.slice(entityManager.createQuery(query), pageable);
+	}
+
+	/**
+	 * Builds response constructor selection.
+	 */
+	private CompoundSelection<UserResponseDto> select(Root<UserModel> root, CriteriaBuilder cb) {
+		return cb.construct(UserResponseDto.class,
+			root.get("id"),
+			root.get("email"),
+			root.get("username"),
+			root.get("role"),
+			root.get("status"));
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.multitenant.app.tenant.service;
+
+import com.multitenant.app.tenant.enums.CustomerFileFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * CustomerImportService
+ *
+ * Defines bulk customer import operations.
+ */
+public interface CustomerImportService {
+
+	/**
+	 * Imports customers from streamed input in batches and
+	 * writes one NDJSON result line per input row, flushed
+	 * after every batch.
+	 *
+	 * Rows are independent: invalid or duplicate rows are
+	 * reported and skipped without rejecting the others.
+	 *
+	 * @param input customer records
+	 * @param format input format
+	 * @param output receives per-row results
+	 */
+	void importCustomers(InputStream input, CustomerFileFormat format, OutputStream output) throws IOException;
+
+}
@@ -1,8 +1,16 @@
 package com.multitenant.app.tenant.service;
 
+import com.multitenant.app.common.pagination.CountMode;
+import com.multitenant.app.common.response.CursorPageResponseDto;
 import com.multitenant.app.common.response.PageResponseDto;
+import com.multitenant.app.tenant.dto.request.CustomerFilterDto;
+import com.multitenant.app.tenant.dto.request.CustomerPatchRequestDto;
 import com.multitenant.app.tenant.dto.request.CustomerRequestDto;
 import com.multitenant.app.tenant.dto.response.CustomerResponseDto;
+import com.multitenant.app.tenant.enums.CustomerFileFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * CustomerService
@@ -37,6 +45,15 @@ public interface CustomerService {
 	 */
 	void deleteCustomer(Long id);
 
+	/**
+	 * Partially updates customer with a single statement,
+	 * changing only fields present in request.
+	 *
+	 * @param id customer identifier
+	 * @param customerPatchRequestDto fields to change
+	 */
+	void patchCustomer(Long id, CustomerPatchRequestDto customerPatchRequestDto);
+
 	/**
 	 * Retrieves customer details by ID.
 	 *
@@ -49,12 +66,45 @@ public interface CustomerService {
 	 * Retrieves paginated customer list with optional search and sorting.
 	 *
 	 * @param search keyword filter (optional)
+	 * @param filter typed field filters
 	 * @param pageNo page index (zero based)
 	 * @param pageSize number of records per page
-	 * @param sortBy sorting field name
+	 * @param sortBy sorting field name (indexed fields only)
 	 * @param sortDir sorting direction (asc / desc)
+	 * @param countMode how total element count is computed
 	 * @return paginated customer response data
 	 */
-	PageResponseDto<CustomerResponseDto> getCustomers(String search, Long pageNo, Long pageSize, String sortBy, String sortDir);
+	PageResponseDto<CustomerResponseDto> getCustomers(String search, CustomerFilterDto filter, Long pageNo, Long pageSize,
+			String sortBy, String sortDir, CountMode countMode);
+
+	/**
+	 * Retrieves customer list page by cursor (keyset pagination)
+	 * with optional search, filters and sorting, without total count.
+	 *
+	 * @param search keyword filter (optional)
+	 * @param filter typed field filters
+	 * @param cursor cursor of previous page (null for first page)
+	 * @param pageSize number of records per page
+	 * @param sortBy sorting field name
+	 * @param sortDir sorting direction (asc / desc)
+	 * @return cursor paginated customer response data
+	 */
+	CursorPageResponseDto<CustomerResponseDto> getCustomersByCursor(String search, CustomerFilterDto filter, String cursor,
+			Long pageSize, String sortBy, String sortDir);
+
+	/**
+	 * Streams all customers matching optional search and
+	 * filters, ordered by ID, straight to given output.
+	 *
+	 * Runs in a read-only consistent-snapshot transaction
+	 * over a forward-only result set, in constant memory.
+	 *
+	 * @param search keyword filter (optional)
+	 * @param filter typed field filters
+	 * @param format output format
+	 * @param output receives exported records
+	 */
+	void exportCustomers(String search, CustomerFilterDto filter, CustomerFileFormat format, OutputStream output)
+			throws IOException;
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.multitenant.app.tenant.service;
+
+import com.multitenant.app.tenant.dto.response.CacheRegionStatisticsDto;
+
+import java.util.List;
+
+/**
+ * TenantCacheService
+ *
+ * Service interface for inspecting and evicting
+ * second-level cache of tenant persistence unit.
+ */
+public interface TenantCacheService {
+
+	/**
+	 * Returns hit, miss and put counts of tenant in
+	 * entity regions and query region.
+	 *
+	 * Regions are shared by all tenants, counts only
+	 * cover accesses to keys of given tenant.
+	 *
+	 * @param tenantKey tenant cache key
+	 * @return region statistics
+	 */
+	List<CacheRegionStatisticsDto> getStatistics(String tenantKey);
+
+	/**
+	 * Evicts cached entities and query results of tenant.
+	 *
+	 * Regions are shared by all tenants, only keys of
+	 * given tenant are removed.
+	 *
+	 * @param tenantKey tenant cache key
+	 */
+	void evictTenant(String tenantKey);
+
+}
@@ -1,7 +1,10 @@
 package com.multitenant.app.tenant.service;
 
+import com.multitenant.app.common.pagination.CountMode;
+import com.multitenant.app.common.response.CursorPageResponseDto;
 import com.multitenant.app.common.response.PageResponseDto;
 import com.multitenant.app.tenant.dto.request.UserCreateRequestDto;
+import com.multitenant.app.tenant.dto.request.UserPatchRequestDto;
 import com.multitenant.app.tenant.dto.request.UserUpdateRequestDto;
 import com.multitenant.app.tenant.dto.response.UserResponseDto;
 
@@ -41,6 +44,15 @@ public interface UserService {
 	 */
 	void deleteUser(Long id);
 
+	/**
+	 * Partially updates tenant user with a single statement,
+	 * changing only fields present in request.
+	 *
+	 * @param id user unique identifier
+	 * @param requestDto fields to change
+	 */
+	void patchUser(Long id, UserPatchRequestDto requestDto);
+
 	/**
 	 * Retrieves tenant user by ID.
 	 *
@@ -56,8 +68,21 @@ public interface UserService {
 	 * @param pageSize page size
 	 * @param sortBy sort field
 	 * @param sortDir sort direction
+	 * @param countMode how total element count is computed
 	 * @return paginated user response list
 	 */
-	PageResponseDto<UserResponseDto> getUsers(Long pageNo, Long pageSize, String sortBy, String sortDir);
+	PageResponseDto<UserResponseDto> getUsers(Long pageNo, Long pageSize, String sortBy, String sortDir, CountMode countMode);
+
+	/**
+	 * Retrieves tenant users page by cursor
+	 * (keyset pagination), without total count.
+	 *
+	 * @param cursor cursor of previous page (null for first page)
+	 * @param pageSize page size
+	 * @param sortBy sort field
+	 * @param sortDir sort direction
+	 * @return cursor paginated user response list
+	 */
+	CursorPageResponseDto<UserResponseDto> getUsersByCursor(String cursor, Long pageSize, String sortBy, String sortDir);
 
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.multitenant.app.tenant.service.impl;
+
+import com.multitenant.app.tenant.dto.response.CustomerResponseDto;
+import com.multitenant.app.tenant.enums.CustomerFileFormat;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CustomerExportWriter
+ *
+ * Writes exported customers one record at a time.
+ *
+ * CSV output starts with a header row of field names
+ * accepted by bulk import, so exports can be re-imported.
+ * NDJSON output holds one customer JSON object per line.
+ */
+final class CustomerExportWriter implements Closeable {
+
+	/* CSV header, in column order */
+	private static final String CSV_HEADER =
+			"id,firstName,lastName,dateOfBirth,age,gender,mobile,email,address1,address2";
+
+	/* Buffered character output */
+	private final Writer writer;
+
+	/* Output format */
+	private final CustomerFileFormat format;
+
+	/* Serializes NDJSON records */
+	private final ObjectMapper objectMapper;
+
+	CustomerExportWriter(OutputStream output, CustomerFileFormat format, ObjectMapper objectMapper) throws IOException {
+		this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+		this.format = format;
+		this.objectMapper = objectMapper;
+		if (format == CustomerFileFormat.CSV)
+			writer.write(CSV_HEADER + "\n");
+	}
+
+	/**
+	 * Writes one customer record.
+	 */
+	void write(CustomerResponseDto customer) throws IOException {
+		if (format == CustomerFileFormat.NDJSON) {
+			writer.write(objectMapper.writeValueAsString(customer));
+			writer.write('\n');
+			return;
+		}
+
+		Object[] values = {
+			customer.getId(), customer.getFirstName(), customer.getLastName(), customer.getDateOfBirth(),
+			customer.getAge(), customer.getGender(), customer.getMobile(), customer.getEmail(),
+			customer.getAddress1(), customer.getAddress2()
+		};
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0)
+				writer.write(',');
+			if (values[i] != null)
+				writer.write(escape(values[i].toString()));
+		}
+		writer.write('\n');
+	}
+
+	/**
+	 * Quotes CSV value containing separators, quotes or line breaks.
+	 */
+	private String escape(String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+			return value;
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+
+	/**
+	 * Flushes buffered records without closing
+	 * underlying servlet stream.
+	 */
+	@Override
+	public void close() throws IOException {
+		writer.flush();
+	}
+
+}
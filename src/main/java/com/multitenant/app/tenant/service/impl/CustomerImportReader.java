@@ -0,0 +1,187 @@
+package com.multitenant.app.tenant.service.impl;
+
+import com.multitenant.app.tenant.dto.request.CustomerRequestDto;
+import com.multitenant.app.tenant.enums.CustomerFileFormat;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CustomerImportReader
+ *
+ * Streams customer records out of bulk import input
+ * one record at a time, so input size is not bounded
+ * by memory.
+ *
+ * CSV input starts with a header row naming request
+ * fields (firstName, lastName, dateOfBirth, age, gender,
+ * mobile, email, address1, address2); quoted values may
+ * contain commas, quotes ("") and line breaks. NDJSON
+ * input holds one customer JSON object per line.
+ */
+final class CustomerImportReader implements Closeable {
+
+	/* Buffered character input */
+	private final BufferedReader reader;
+
+	/* Input format */
+	private final CustomerFileFormat format;
+
+	/* Parses NDJSON records */
+	private final ObjectMapper objectMapper;
+
+	/* CSV column names (null until header is read) */
+	private List<String> header;
+
+	CustomerImportReader(InputStream input, CustomerFileFormat format, ObjectMapper objectMapper) {
+		this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		this.format = format;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Reads next customer record.
+	 *
+	 * Malformed record is consumed before its error is
+	 * thrown, so reading can continue with next record.
+	 *
+	 * @return next record, or null at end of input
+	 * @throws IllegalArgumentException if record is malformed
+	 */
+	CustomerRequestDto next() throws IOException {
+		return format == CustomerFileFormat.CSV ? nextCsv() : nextJson();
+	}
+
+	/**
+	 * Reads next non-blank NDJSON line.
+	 */
+	private CustomerRequestDto nextJson() throws IOException {
+		String line;
+		do {
+			line = reader.readLine();
+			if (line == null)
+				return null;
+		} while (line.isBlank());
+
+		try {
+			return objectMapper.readValue(line, CustomerRequestDto.class);
+		} catch (JacksonException e) {
+			throw new IllegalArgumentException("Malformed JSON record");
+		}
+	}
+
+	/**
+	 * Reads next non-blank CSV record mapped by header.
+	 */
+	private CustomerRequestDto nextCsv() throws IOException {
+		if (header == null) {
+			header = readCsvRecord();
+			if (header == null)
+				return null;
+			header.replaceAll(String::trim);
+		}
+
+		List<String> values;
+		do {
+			values = readCsvRecord();
+			if (values == null)
+				return null;
+		} while (values.size() == 1 && values.get(0).isBlank());
+
+		if (values.size() != header.size())
+			throw new IllegalArgumentException("Expected " + header.size() + " columns but found " + values.size());
+
+		CustomerRequestDto dto = new CustomerRequestDto();
+		for (int i = 0; i < header.size(); i++) {
+			String value = values.get(i).isBlank() ? null : values.get(i).trim();
+			if (value != null)
+				set(dto, header.get(i), value);
+		}
+		return dto;
+	}
+
+	/**
+	 * Sets request field named by CSV column.
+	 * Unknown columns are ignored.
+	 */
+	private void set(CustomerRequestDto dto, String column, String value) {
+		try {
+			switch (column) {
+				case "firstName" -> dto.setFirstName(value);
+				case "lastName" -> dto.setLastName(value);
+				case "dateOfBirth" -> dto.setDateOfBirth(LocalDate.parse(value));
+				case "age" -> dto.setAge(Byte.valueOf(value));
+				case "gender" -> dto.setGender(value);
+				case "mobile" -> dto.setMobile(value);
+				case "email" -> dto.setEmail(value);
+				case "address1" -> dto.setAddress1(value);
+				case "address2" -> dto.setAddress2(value);
+				default -> { }
+			}
+		} catch (NumberFormatException | DateTimeParseException e) {
+			throw new IllegalArgumentException("Invalid value for " + column);
+		}
+	}
+
+	/**
+	 * Reads one CSV record, or null at end of input.
+	 */
+	private List<String> readCsvRecord() throws IOException {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		boolean read = false;
+		int c;
+		while ((c = reader.read()) != -1) {
+			read = true;
+			if (quoted) {
+				if (c != '"') {
+					field.append((char) c);
+					continue;
+				}
+				// Doubled quote is an escaped quote, single one closes value
+				reader.mark(1);
+				int next = reader.read();
+				if (next == '"') {
+					field.append('"');
+				} else {
+					quoted = false;
+					if (next != -1)
+						reader.reset();
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\n') {
+				break;
+			} else if (c != '\r') {
+				field.append((char) c);
+			}
+		}
+		if (!read)
+			return null;
+		fields.add(field.toString());
+		return fields;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+}
@@ -0,0 +1,214 @@
+package com.multitenant.app.tenant.service.impl;
+
+import com.multitenant.app.common.exception.DuplicateKeyViolations;
+import com.multitenant.app.common.mapper.CustomerMapper;
+import com.multitenant.app.common.pagination.TenantCountCache;
+import com.multitenant.app.tenant.dto.request.CustomerRequestDto;
+import com.multitenant.app.tenant.dto.response.CustomerImportResultDto;
+import com.multitenant.app.tenant.enums.CustomerFileFormat;
+import com.multitenant.app.tenant.enums.CustomerImportStatus;
+import com.multitenant.app.tenant.enums.Gender;
+import com.multitenant.app.tenant.model.CustomerModel;
+import com.multitenant.app.tenant.repository.CustomerBatchRepository;
+import com.multitenant.app.tenant.service.CustomerImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * CustomerImportServiceImpl
+ *
+ * Concrete implementation of CustomerImportService.
+ *
+ * Valid rows are collected into batches and each batch is
+ * inserted with a single JDBC batch inside one transaction.
+ * When a batch is rejected (typically by a duplicate email
+ * or mobile), it is rolled back and its rows are retried one
+ * at a time, so only offending rows are skipped.
+ */
+@Service
+public class CustomerImportServiceImpl implements CustomerImportService {
+
+	/* Inserts customer batches over JDBC */
+	private final CustomerBatchRepository batchRepository;
+
+	/* Mapper for converting entity and DTO */
+	private final CustomerMapper mapper;
+
+	/* Validates rows with request DTO rules */
+	private final Validator validator;
+
+	/* Parses NDJSON input and writes results */
+	private final ObjectMapper objectMapper;
+
+	/* Cached listing counts, invalidated after import */
+	private final TenantCountCache countCache;
+
+	/* Runs each batch in its own tenant transaction */
+	private final TransactionTemplate transactionTemplate;
+
+	/* Rows inserted per JDBC batch */
+	private final int batchSize;
+
+	public CustomerImportServiceImpl(
+			CustomerBatchRepository batchRepository,
+			CustomerMapper mapper,
+			Validator validator,
+			ObjectMapper objectMapper,
+			TenantCountCache countCache,
+			@Qualifier("tenantTransactionManager") PlatformTransactionManager transactionManager,
+			@Value("${customer.import.batch-size:500}") int batchSize) {
+		this.batchRepository = batchRepository;
+		this.mapper = mapper;
+		this.validator = validator;
+		this.objectMapper = objectMapper;
+		this.countCache = countCache;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void importCustomers(InputStream input, CustomerFileFormat format, OutputStream output) throws IOException {
+		Batch batch = new Batch();
+		long row = 0;
+		boolean created = false;
+
+		try (CustomerImportReader reader = new CustomerImportReader(input, format, objectMapper)) {
+			while (true) {
+				CustomerRequestDto dto;
+				try {
+					dto = reader.next();
+				} catch (IllegalArgumentException e) {
+					batch.results.add(rejected(++row, CustomerImportStatus.INVALID, null, e.getMessage()));
+					continue;
+				}
+				if (dto == null)
+					break;
+
+				CustomerImportResultDto invalid = validate(++row, dto);
+				if (invalid != null) {
+					batch.results.add(invalid);
+				} else {
+					batch.rows.add(row);
+					batch.customers.add(mapper.toEntity(dto));
+				}
+
+				if (batch.customers.size() >= batchSize) {
+					created |= flush(batch, output);
+					batch = new Batch();
+				}
+			}
+			created |= flush(batch, output);
+		} finally {
+			if (created)
+				countCache.invalidate(CustomerServiceImpl.COUNT_RESOURCE);
+		}
+	}
+
+	/**
+	 * Validates row with request rules.
+	 *
+	 * @return rejection result, or null when row is valid
+	 */
+	private CustomerImportResultDto validate(long row, CustomerRequestDto dto) {
+		// Report first violated field in stable order
+		ConstraintViolation<CustomerRequestDto> violation = validator.validate(dto)
+				.stream()
+				.min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+				.orElse(null);
+		if (violation != null)
+			return rejected(row, CustomerImportStatus.INVALID, violation.getPropertyPath().toString(), violation.getMessage());
+
+		if (Gender.fromString(dto.getGender()) == null)
+			return rejected(row, CustomerImportStatus.INVALID, "gender", "Invalid gender: " + dto.getGender());
+		return null;
+	}
+
+	/**
+	 * Inserts batch and writes results of all its rows.
+	 *
+	 * @return whether any customer was created
+	 */
+	private boolean flush(Batch batch, OutputStream output) throws IOException {
+		boolean created = false;
+		if (!batch.customers.isEmpty()) {
+			try {
+				List<Long> ids = transactionTemplate.execute(status -> batchRepository.insertAll(batch.customers));
+				for (int i = 0; i < batch.rows.size(); i++) {
+					Long id = ids != null && i < ids.size() ? ids.get(i) : null;
+					batch.results.add(new CustomerImportResultDto(batch.rows.get(i), CustomerImportStatus.CREATED, id, null, null));
+				}
+				created = true;
+			} catch (DataAccessException e) {
+				// Batch rolled back, retry rows one by one to isolate offenders
+				for (int i = 0; i < batch.rows.size(); i++) {
+					CustomerImportResultDto result = insertOne(batch.rows.get(i), batch.customers.get(i));
+					created |= result.getStatus() == CustomerImportStatus.CREATED;
+					batch.results.add(result);
+				}
+			}
+		}
+
+		if (batch.results.isEmpty())
+			return created;
+		batch.results.sort(Comparator.comparingLong(CustomerImportResultDto::getRow));
+		for (CustomerImportResultDto result : batch.results) {
+			output.write(objectMapper.writeValueAsBytes(result));
+			output.write('\n');
+		}
+		output.flush();
+		return created;
+	}
+
+	/**
+	 * Inserts single row and reports its outcome.
+	 */
+	private CustomerImportResultDto insertOne(long row, CustomerModel customer) {
+		try {
+			return new CustomerImportResultDto(row, CustomerImportStatus.CREATED, batchRepository.insert(customer), null, null);
+		} catch (DataAccessException e) {
+			String key = DuplicateKeyViolations.violatedKey(e);
+			if (key != null)
+				return rejected(row, CustomerImportStatus.DUPLICATE, key, "Duplicate " + key);
+			return rejected(row, CustomerImportStatus.FAILED, null, "Row could not be inserted");
+		}
+	}
+
+	/**
+	 * Builds result of a row that was not inserted.
+	 */
+	private CustomerImportResultDto rejected(long row, CustomerImportStatus status, String field, String message) {
+		return new CustomerImportResultDto(row, status, null, field, message);
+	}
+
+	/* Rows collected for one JDBC batch and results awaiting output */
+	private static final class Batch {
+
+		/* Input row numbers of pending customers */
+		private final List<Long> rows = new ArrayList<>();
+
+		/* Pending customers */
+		private final List<CustomerModel> customers = new ArrayList<>();
+
+		/* Results in any order, sorted before output */
+		private final List<CustomerImportResultDto> results = new ArrayList<>();
+
+	}
+
+}
@@ -1,26 +1,56 @@
 package com.multitenant.app.tenant.service.impl;
 
 import com.multitenant.app.common.constants.PaginationConstants;
+import com.multitenant.app.common.exception.BadRequestException;
+import com.multitenant.app.common.exception.DuplicateKeyViolations;
 import com.multitenant.app.common.exception.DuplicateResourceException;
 import com.multitenant.app.common.exception.ResourceNotFoundException;
 import com.multitenant.app.common.mapper.CustomerMapper;
+import com.multitenant.app.common.pagination.CountMode;
+import com.multitenant.app.common.pagination.CursorPagination;
+import com.multitenant.app.common.pagination.ParallelPageExecutor;
+import com.multitenant.app.common.pagination.TenantCountCache;
+import com.multitenant.app.common.pagination.TenantPageCache;
+import com.multitenant.app.common.response.CursorPageResponseDto;
 import com.multitenant.app.common.response.PageResponseDto;
+import com.multitenant.app.tenant.dto.request.CustomerFilterDto;
+import com.multitenant.app.tenant.dto.request.CustomerPatchRequestDto;
 import com.multitenant.app.tenant.dto.request.CustomerRequestDto;
 import com.multitenant.app.tenant.dto.response.CustomerResponseDto;
+import com.multitenant.app.tenant.enums.CustomerFileFormat;
+import com.multitenant.app.tenant.enums.CustomerSearchMode;
+import com.multitenant.app.tenant.enums.Gender;
 import com.multitenant.app.tenant.model.CustomerModel;
 import com.multitenant.app.tenant.repository.CustomerRepository;
+import com.multitenant.app.tenant.repository.CustomerStreamRepository;
+import com.multitenant.app.tenant.repository.CustomerViewRepository;
 import com.multitenant.app.tenant.service.CustomerService;
 import com.multitenant.app.tenant.specification.CustomerSpecification;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.domain.UpdateSpecification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * CustomerServiceImpl
@@ -35,15 +65,50 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
 
+	/* Resource name of customer listing counts */
+	static final String COUNT_RESOURCE = "customer";
+
+	/* Sortable fields, each backed by an index created in tenant schema */
+	private static final Set<String> SORT_FIELDS = Set.of(
+			"id", "firstName", "lastName", "email", "mobile", "dateOfBirth", "createdAt");
+
+	/* Non-null fields supported by cursor pagination and their types */
+	private static final Map<String, Class<?>> CURSOR_SORT_FIELDS = Map.of(
+			"id", Long.class,
+			"firstName", String.class,
+			"lastName", String.class,
+			"email", String.class,
+			"mobile", String.class,
+			"createdAt", LocalDateTime.class);
+
 	/* Repository for customer persistence operations */
 	private final CustomerRepository customerRepository;
 
-	// Object mapping
-	private final ModelMapper modelMapper;
+	/* Streams customers for export */
+	private final CustomerStreamRepository customerStreamRepository;
+
+	/* Reads customer responses as projections */
+	private final CustomerViewRepository customerViewRepository;
 
 	/* Mapper for converting entity and DTO */
 	private final CustomerMapper mapper;
 
+	/* Serializes NDJSON export records */
+	private final ObjectMapper objectMapper;
+
+	/* Cached listing counts, invalidated on customer writes */
+	private final TenantCountCache countCache;
+
+	/* Runs content and count queries concurrently when pool allows */
+	private final ParallelPageExecutor pageExecutor;
+
+	/* Cached listing pages, invalidated with counts on customer writes */
+	private final TenantPageCache pageCache;
+
+	/* Global search strategy (LIKE scan or FULLTEXT index) */
+	@Value("${customer.search.mode:like}")
+	private CustomerSearchMode searchMode;
+
 	/**
 	 * Builds pageable object with validation and sorting.
 	 *
@@ -58,9 +123,12 @@ public class CustomerServiceImpl implements CustomerService {
 				? PaginationConstants.DEFAULT_PAGE_NO
 				: pageNo.intValue();
 
-		int size = (pageSize == null || pageSize <= 0)
-				? PaginationConstants.DEFAULT_PAGE_SIZE
-				: Math.min(pageSize.intValue(), PaginationConstants.MAX_PAGE_SIZE);
+		int size = pageSize(pageSize);
+
+		// Reject sorts that would filesort the whole table
+		if (!SORT_FIELDS.contains(sortBy))
+			throw new BadRequestException("Unsupported sort field: " + sortBy
+					+ ". Supported fields: " + String.join(", ", new TreeSet<>(SORT_FIELDS)));
 
 		Sort sort = sortDir.equalsIgnoreCase("desc")
 				? Sort.by(sortBy).descending()
@@ -68,24 +136,81 @@ public class CustomerServiceImpl implements CustomerService {
 		return PageRequest.of(page, size, sort);
 	}
 
+	/**
+	 * Resolves page size within allowed bounds.
+	 */
+	private int pageSize(Long pageSize) {
+		return (pageSize == null || pageSize <= 0)
+				? PaginationConstants.DEFAULT_PAGE_SIZE
+				: Math.min(pageSize.intValue(), PaginationConstants.MAX_PAGE_SIZE);
+	}
+
+	/**
+	 * Builds global search specification for configured search mode.
+	 */
+	private Specification<CustomerModel> searchSpecification(String search) {
+		return searchMode == CustomerSearchMode.FULLTEXT
+				? CustomerSpecification.fullTextSearch(search)
+				: CustomerSpecification.globalSearch(search);
+	}
+
+	/**
+	 * Combines global search and typed filters, shared by
+	 * offset listing, cursor listing and export so they
+	 * return the same rows.
+	 */
+	private Specification<CustomerModel> listingSpecification(String search, CustomerFilterDto filter) {
+		return searchSpecification(search).and(CustomerSpecification.filter(filter));
+	}
+
+	/**
+	 * Builds count cache filter key from search and typed filters.
+	 */
+	private String countFilter(String search, CustomerFilterDto filter) {
+		if (filter == null)
+			return search;
+		return String.join("|", String.valueOf(search), String.valueOf(filter.getGender()),
+				String.valueOf(filter.getMinAge()), String.valueOf(filter.getMaxAge()),
+				String.valueOf(filter.getDobFrom()), String.valueOf(filter.getDobTo()),
+				String.valueOf(filter.getCreatedFrom()), String.valueOf(filter.getCreatedTo()),
+				String.valueOf(filter.getEmailPrefix()), String.valueOf(filter.getMobilePrefix()));
+	}
+
+	/**
+	 * Translates violated unique constraint into duplicate
+	 * error of the offending field.
+	 *
+	 * @param e      write failure
+	 * @param update whether another customer holds the value
+	 * @return exception to throw
+	 */
+	private RuntimeException translateDuplicate(DataIntegrityViolationException e, boolean update) {
+		String key = DuplicateKeyViolations.violatedKey(e);
+		if ("email".equals(key))
+			return new DuplicateResourceException(update
+					? "Email already registered with another customer"
+					: "Email already registered", "email");
+		if ("mobile".equals(key))
+			return new DuplicateResourceException(update
+					? "Mobile already registered with another customer"
+					: "Mobile number already registered", "mobile");
+		return e;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public CustomerResponseDto createCustomer(CustomerRequestDto dto) {
-		// Validate unique email
-		if (customerRepository.existsByEmail(dto.getEmail())) {
-			throw new DuplicateResourceException("Email already registered", "email");
-		}
-
-		// Validate unique mobile number
-		if (customerRepository.existsByMobile(dto.getMobile())) {
-			throw new DuplicateResourceException("Mobile number already registered", "mobile");
-		}
-
-		// Map request to entity and persist
+		// Map request to entity and persist, UNIQUE constraints reject duplicates
 		CustomerModel entity = mapper.toEntity(dto);
-		CustomerModel saved = customerRepository.save(entity);
+		CustomerModel saved;
+		try {
+			saved = customerRepository.saveAndFlush(entity);
+		} catch (DataIntegrityViolationException e) {
+			throw translateDuplicate(e, false);
+		}
+		countCache.invalidate(COUNT_RESOURCE);
 		return mapper.toDto(saved);
 	}
 
@@ -98,25 +223,16 @@ public class CustomerServiceImpl implements CustomerService {
 		CustomerModel existing = customerRepository.findById(requestDto.getId())
 				.orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + requestDto.getId()));
 
-		// Validate email uniqueness
-		if (!existing.getEmail().equals(requestDto.getEmail())
-				&& customerRepository.existsByEmail(requestDto.getEmail())) {
-			throw new DuplicateResourceException("Email already registered with another customer", "email");
-		}
+		mapper.updateEntity(requestDto, existing);
 
-		// Validate mobile uniqueness
-		if (!existing.getMobile().equals(requestDto.getMobile())
-				&& customerRepository.existsByMobile(requestDto.getMobile())) {
-			throw new DuplicateResourceException("Mobile already registered with another customer", "mobile");
+		// Persist changes, UNIQUE constraints reject duplicates
+		CustomerModel saved;
+		try {
+			saved = customerRepository.saveAndFlush(existing);
+		} catch (DataIntegrityViolationException e) {
+			throw translateDuplicate(e, true);
 		}
-
-		modelMapper.map(requestDto, existing);
-
-		// Manually update gender as it is skipped in mapper
-		if (requestDto.getGender() != null) {
-			existing.setGender(com.multitenant.app.tenant.enums.Gender.fromString(requestDto.getGender()));
-		}
-		CustomerModel saved = customerRepository.save(existing);
+		countCache.invalidate(COUNT_RESOURCE);
 		return mapper.toDto(saved);
 	}
 
@@ -125,11 +241,70 @@ public class CustomerServiceImpl implements CustomerService {
 	 */
 	@Override
 	public void deleteCustomer(Long id) {
-		// Validate customer existence
-		CustomerModel customer = customerRepository.findById(id)
-				.orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + id));
-		// Delete customer record
-		customerRepository.delete(customer);
+		// Delete customer record, no affected row means it does not exist
+		if (customerRepository.delete(CustomerSpecification.hasId(id)) == 0)
+			throw new ResourceNotFoundException("Customer not found with ID: " + id);
+		countCache.invalidate(COUNT_RESOURCE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void patchCustomer(Long id, CustomerPatchRequestDto dto) {
+		// Nothing to change, only existence matters
+		if (!hasChanges(dto)) {
+			if (!customerRepository.existsById(id))
+				throw new ResourceNotFoundException("Customer not found with ID: " + id);
+			return;
+		}
+
+		// Validate gender before building statement
+		Byte gender = Gender.fromString(dto.getGender());
+		if (dto.getGender() != null && gender == null)
+			throw new BadRequestException("Invalid gender: " + dto.getGender());
+
+		// Set only provided columns
+		UpdateSpecification<CustomerModel> update = UpdateSpecification.<CustomerModel>update((root, query, cb) -> {
+			if (dto.getFirstName() != null)
+				query.set(root.get("firstName"), dto.getFirstName());
+			if (dto.getLastName() != null)
+				query.set(root.get("lastName"), dto.getLastName());
+			if (dto.getDateOfBirth() != null)
+				query.set(root.get("dateOfBirth"), dto.getDateOfBirth());
+			if (dto.getAge() != null)
+				query.set(root.get("age"), dto.getAge());
+			if (gender != null)
+				query.set(root.get("gender"), gender);
+			if (dto.getMobile() != null)
+				query.set(root.get("mobile"), dto.getMobile());
+			if (dto.getEmail() != null)
+				query.set(root.get("email"), dto.getEmail());
+			if (dto.getAddress1() != null)
+				query.set(root.get("address1"), dto.getAddress1());
+			if (dto.getAddress2() != null)
+				query.set(root.get("address2"), dto.getAddress2());
+		}).where(CustomerSpecification.hasId(id));
+
+		// Single UPDATE, matched row count tells whether customer exists
+		long updated;
+		try {
+			updated = customerRepository.update(update);
+		} catch (DataIntegrityViolationException e) {
+			throw translateDuplicate(e, true);
+		}
+		if (updated == 0)
+			throw new ResourceNotFoundException("Customer not found with ID: " + id);
+		countCache.invalidate(COUNT_RESOURCE);
+	}
+
+	/**
+	 * Checks whether partial update carries any field.
+	 */
+	private boolean hasChanges(CustomerPatchRequestDto dto) {
+		return dto.getFirstName() != null || dto.getLastName() != null || dto.getDateOfBirth() != null
+				|| dto.getAge() != null || dto.getGender() != null || dto.getMobile() != null
+				|| dto.getEmail() != null || dto.getAddress1() != null || dto.getAddress2() != null;
 	}
 
 	/**
@@ -137,42 +312,121 @@ public class CustomerServiceImpl implements CustomerService {
 	 */
 	@Override
 	public CustomerResponseDto getCustomer(Long id) {
-		// Fetch customer by ID
-		CustomerModel customer = customerRepository.findById(id)
+		// Served from second-level cache after first load in tenant
+		return customerRepository.findById(id)
+				.map(mapper::toDto)
 				.orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + id));
-		return mapper.toDto(customer);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public PageResponseDto<CustomerResponseDto> getCustomers(String search, Long pageNo, Long pageSize, String sortBy,
-			String sortDir) {
+	public PageResponseDto<CustomerResponseDto> getCustomers(String search, CustomerFilterDto filter, Long pageNo,
+			Long pageSize, String sortBy, String sortDir, CountMode countMode) {
 		// Build pagination and sorting configuration
 		Pageable pageable = buildPageable(pageNo, pageSize, sortBy, sortDir);
 
-		// Apply global search filter
-		Specification<CustomerModel> specification = CustomerSpecification.globalSearch(search);
+		// Apply global search and typed filters
+		Specification<CustomerModel> specification = listingSpecification(search, filter);
 
-		// Fetch paginated data
-		Page<CustomerModel> page = customerRepository.findAll(specification, pageable);
+		// Serve repeated listings from cache until next customer write
+		String query = (countFilter(search, filter) + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize()
+				+ "|" + pageable.getSort() + "|" + countMode).toLowerCase();
+		return pageCache.get(COUNT_RESOURCE, query,
+				() -> findCustomers(search, filter, specification, pageable, countMode),
+				CustomerServiceImpl::estimateSize);
+	}
 
-		// Map entity list to response DTO list
-		List<CustomerResponseDto> content = page.getContent()
-				.stream()
-				.map(mapper::toDto)
-				.toList();
+	/**
+	 * Runs listing queries of requested page.
+	 */
+	private PageResponseDto<CustomerResponseDto> findCustomers(String search, CustomerFilterDto filter,
+			Specification<CustomerModel> specification, Pageable pageable, CountMode countMode) {
+		// Fetch projected page with count query, or slice detecting next page only
+		Slice<CustomerResponseDto> slice;
+		Long totalElements;
+		if (countMode == CountMode.EXACT) {
+			Page<CustomerResponseDto> page = pageExecutor.findPage(pageable,
+					() -> PageableExecutionUtils.getPage(
+							customerViewRepository.findSlice(specification, pageable).getContent(),
+							pageable, () -> customerRepository.count(specification)),
+					() -> customerViewRepository.findSlice(specification, pageable),
+					() -> customerRepository.count(specification));
+			slice = page;
+			totalElements = page.getTotalElements();
+		} else {
+			slice = customerViewRepository.findSlice(specification, pageable);
+			totalElements = countMode == CountMode.ESTIMATE
+					? countCache.get(COUNT_RESOURCE, countFilter(search, filter),
+							() -> customerRepository.count(specification))
+					: null;
+		}
 
 		// Build paginated response
-		return new PageResponseDto<>(
-				content,
-				page.getNumber(),
-				page.getSize(),
-				page.getTotalElements(),
-				page.getTotalPages(),
-				page.hasNext(),
-				page.hasPrevious());
+		return PageResponseDto.of(slice, slice.getContent(), totalElements);
+	}
+
+	/**
+	 * Estimates memory held by cached customer page.
+	 */
+	private static long estimateSize(PageResponseDto<CustomerResponseDto> page) {
+		long bytes = 128;
+		for (CustomerResponseDto customer : page.getContent()) {
+			bytes += 160 + 2L * (length(customer.getFirstName()) + length(customer.getLastName())
+					+ length(customer.getGender()) + length(customer.getMobile()) + length(customer.getEmail())
+					+ length(customer.getAddress1()) + length(customer.getAddress2()));
+		}
+		return bytes;
+	}
+
+	private static int length(String value) {
+		return value != null ? value.length() : 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public CursorPageResponseDto<CustomerResponseDto> getCustomersByCursor(String search, CustomerFilterDto filter,
+			String cursor, Long pageSize, String sortBy, String sortDir) {
+		int size = pageSize(pageSize);
+
+		// Apply global search and typed filters
+		Specification<CustomerModel> specification = listingSpecification(search, filter);
+
+		// Build keyset ordering and position after previous page
+		Sort sort = CursorPagination.sort(sortBy, sortDir, CURSOR_SORT_FIELDS);
+		ScrollPosition position = CursorPagination.decode(cursor, sort, CURSOR_SORT_FIELDS);
+
+		// Seek past previous page without offset or count query
+		Window<CustomerModel> window = customerRepository.findBy(specification,
+				query -> query.sortBy(sort).limit(size).scroll(position));
+
+		return CursorPagination.toResponse(window, sort, size, mapper::toDto);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(value = "tenantTransactionManager", readOnly = true, isolation = Isolation.REPEATABLE_READ)
+	public void exportCustomers(String search, CustomerFilterDto filter, CustomerFileFormat format, OutputStream output)
+			throws IOException {
+		// Apply global search and typed filters
+		Specification<CustomerModel> specification = listingSpecification(search, filter);
+		try (CustomerExportWriter writer = new CustomerExportWriter(output, format, objectMapper)) {
+			customerStreamRepository.forEach(specification, customer -> {
+				try {
+					writer.write(mapper.toDto(customer));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			// Client disconnected or output failed
+			throw e.getCause();
+		}
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.multitenant.app.tenant.service.impl;
+
+import com.multitenant.app.config.TenantCacheKeysFactory;
+import com.multitenant.app.config.TenantCacheRegions;
+import com.multitenant.app.config.TenantCacheStatistics;
+import com.multitenant.app.config.TenantJCacheRegionFactory;
+import com.multitenant.app.tenant.dto.response.CacheRegionStatisticsDto;
+import com.multitenant.app.tenant.service.TenantCacheService;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Service;
+
+import javax.cache.Cache;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TenantCacheServiceImpl
+ *
+ * Concrete implementation for tenant second-level
+ * cache operations.
+ *
+ * Regions are shared, so statistics are the tenant's
+ * own counts (see TenantCacheStatistics) and tenant
+ * eviction scans entity and query regions, removing
+ * only keys of the tenant.
+ */
+@Service
+public class TenantCacheServiceImpl implements TenantCacheService {
+
+	/* Regions holding tenant scoped keys, reported by statistics */
+	private static final List<String> REGIONS = List.of(TenantCacheRegions.CUSTOMERS, TenantCacheRegions.USERS,
+		TenantCacheRegions.QUERY);
+
+	/* Tenant persistence unit */
+	@PersistenceUnit(unitName = "tenantPU")
+	private EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<CacheRegionStatisticsDto> getStatistics(String tenantKey) {
+		Map<String, TenantCacheStatistics.RegionCounters> counters =
+			sessionFactory().getCache().getRegionFactory() instanceof TenantJCacheRegionFactory regionFactory
+				&& regionFactory.getTenantStatistics() != null
+			? regionFactory.getTenantStatistics().get(tenantKey)
+			: Map.of();
+
+		return REGIONS.stream()
+			.map(region -> toDto(region, counters.get(region)))
+			.toList();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evictTenant(String tenantKey) {
+		CacheImplementor cache = sessionFactory().getCache();
+
+		// Remove tenant keys from shared entity and query regions
+		if (cache.getRegionFactory() instanceof JCacheRegionFactory regionFactory) {
+			for (String region : REGIONS) {
+				Cache<Object, Object> entries = regionFactory.getCacheManager().getCache(region);
+				if (entries == null)
+					continue;
+				for (Iterator<Cache.Entry<Object, Object>> it = entries.iterator(); it.hasNext();) {
+					if (tenantKey.equals(TenantCacheKeysFactory.tenantOf(it.next().getKey())))
+						it.remove();
+				}
+			}
+		}
+	}
+
+	private SessionFactoryImplementor sessionFactory() {
+		return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+	}
+
+	/* Region without counts (not accessed yet or disabled) reports zeros */
+	private CacheRegionStatisticsDto toDto(String region, TenantCacheStatistics.RegionCounters counters) {
+		return counters == null
+			? new CacheRegionStatisticsDto(region, 0, 0, 0)
+			: new CacheRegionStatisticsDto(region, counters.getHitCount(), counters.getMissCount(),
+				counters.getPutCount());
+	}
+
+}
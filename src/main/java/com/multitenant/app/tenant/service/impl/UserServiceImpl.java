@@ -1,26 +1,45 @@
 package com.multitenant.app.tenant.service.impl;
 
 import com.multitenant.app.common.constants.PaginationConstants;
+import com.multitenant.app.common.exception.DuplicateKeyViolations;
 import com.multitenant.app.common.exception.DuplicateResourceException;
 import com.multitenant.app.common.exception.ResourceNotFoundException;
 import com.multitenant.app.common.mapper.UserMapper;
+import com.multitenant.app.common.pagination.CountMode;
+import com.multitenant.app.common.pagination.CursorPagination;
+import com.multitenant.app.common.pagination.ParallelPageExecutor;
+import com.multitenant.app.common.pagination.TenantCountCache;
+import com.multitenant.app.common.response.CursorPageResponseDto;
 import com.multitenant.app.common.response.PageResponseDto;
+import com.multitenant.app.context.TenantContext;
+import com.multitenant.app.security.TenantUserDetailsCache;
+import com.multitenant.app.security.TokenRevocationRegistry;
 import com.multitenant.app.tenant.dto.request.UserCreateRequestDto;
+import com.multitenant.app.tenant.dto.request.UserPatchRequestDto;
 import com.multitenant.app.tenant.dto.request.UserUpdateRequestDto;
 import com.multitenant.app.tenant.dto.response.UserResponseDto;
 import com.multitenant.app.tenant.model.UserModel;
 import com.multitenant.app.tenant.repository.UserRepository;
+import com.multitenant.app.tenant.repository.UserViewRepository;
 import com.multitenant.app.tenant.service.UserService;
+import com.multitenant.app.tenant.specification.UserSpecification;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.domain.UpdateSpecification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * UserServiceImpl
@@ -34,11 +53,21 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+	/* Resource name of user listing counts */
+	private static final String COUNT_RESOURCE = "user";
+
+	/* Non-null fields supported by cursor pagination and their types */
+	private static final Map<String, Class<?>> CURSOR_SORT_FIELDS = Map.of(
+		"id", Long.class,
+		"username", String.class,
+		"email", String.class,
+		"createdAt", LocalDateTime.class);
+
 	/* Repository for tenant user persistence */
 	private final UserRepository userRepository;
 
-	// Object mapping
-	private final ModelMapper modelMapper;
+	/* Reads user responses as projections */
+	private final UserViewRepository userViewRepository;
 
 	/* Mapper for DTO and entity conversion */
 	private final UserMapper mapper;
@@ -46,6 +75,18 @@ public class UserServiceImpl implements UserService {
 	/* Password encoder for secure storage */
 	private final PasswordEncoder passwordEncoder;
 
+	/* Cached credentials used by request authentication */
+	private final TenantUserDetailsCache userDetailsCache;
+
+	/* Cached listing counts, invalidated on user creation and deletion */
+	private final TenantCountCache countCache;
+
+	/* Runs content and count queries concurrently when pool allows */
+	private final ParallelPageExecutor pageExecutor;
+
+	/* Revokes tokens issued to removed or renamed users */
+	private final TokenRevocationRegistry revocationRegistry;
+
 	/**
 	 * Builds pageable configuration with safe defaults.
 	 *
@@ -60,9 +101,7 @@ public class UserServiceImpl implements UserService {
 			? PaginationConstants.DEFAULT_PAGE_NO
 			: pageNo.intValue();
 
-		int size = (pageSize == null || pageSize <= 0)
-			? PaginationConstants.DEFAULT_PAGE_SIZE
-			: Math.min(pageSize.intValue(), PaginationConstants.MAX_PAGE_SIZE);
+		int size = pageSize(pageSize);
 
 		Sort sort = sortDir.equalsIgnoreCase("desc")
 			? Sort.by(sortBy).descending()
@@ -70,21 +109,41 @@ public class UserServiceImpl implements UserService {
 		return PageRequest.of(page, size, sort);
 	}
 
+	/**
+	 * Resolves page size within allowed bounds.
+	 */
+	private int pageSize(Long pageSize) {
+		return (pageSize == null || pageSize <= 0)
+			? PaginationConstants.DEFAULT_PAGE_SIZE
+			: Math.min(pageSize.intValue(), PaginationConstants.MAX_PAGE_SIZE);
+	}
+
+	/**
+	 * Translates violated unique constraint into duplicate
+	 * error of the offending field.
+	 *
+	 * @param e      write failure
+	 * @param update whether another user holds the value
+	 * @return exception to throw
+	 */
+	private RuntimeException translateDuplicate(DataIntegrityViolationException e, boolean update) {
+		String key = DuplicateKeyViolations.violatedKey(e);
+		if ("email".equals(key))
+			return new DuplicateResourceException(update
+				? "Email already registered with another user"
+				: "Email already registered", "email");
+		if ("username".equals(key))
+			return new DuplicateResourceException(update
+				? "Username already registered with another user"
+				: "Username already exists", "username");
+		return e;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public UserResponseDto createUser(UserCreateRequestDto requestDto) {
-		// Validate unique email
-		if (userRepository.existsByEmail(requestDto.getEmail())) {
-			throw new DuplicateResourceException("Email already registered", "email");
-		}
-
-		// Validate unique username
-		if (userRepository.existsByUsername(requestDto.getUsername())) {
-			throw new DuplicateResourceException("Username already exists", "username");
-		}
-
 		// Map request to entity
 		UserModel entity = mapper.toEntity(requestDto);
 
@@ -95,8 +154,14 @@ public class UserServiceImpl implements UserService {
 		// Encrypt password
 		entity.setPassword(passwordEncoder.encode(requestDto.getPassword()));
 
-		// Persist user
-		UserModel saved = userRepository.save(entity);
+		// Persist user, UNIQUE constraints reject duplicates
+		UserModel saved;
+		try {
+			saved = userRepository.saveAndFlush(entity);
+		} catch (DataIntegrityViolationException e) {
+			throw translateDuplicate(e, false);
+		}
+		countCache.invalidate(COUNT_RESOURCE);
 		return mapper.toDto(saved);
 	}
 
@@ -109,19 +174,23 @@ public class UserServiceImpl implements UserService {
 		UserModel existing = userRepository.findById(requestDto.getId())
 			.orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + requestDto.getId()));
 
-		// Validate email uniqueness
-		if (!existing.getEmail().equals(requestDto.getEmail()) && userRepository.existsByEmail(requestDto.getEmail())) {
-			throw new DuplicateResourceException("Email already registered with another user", "email");
-		}
+		String previousUsername = existing.getUsername();
+		mapper.updateEntity(requestDto, existing);
 
-		// Validate username uniqueness
-		if (!existing.getUsername().equals(requestDto.getUsername())
-			&& userRepository.existsByUsername(requestDto.getUsername())) {
-			throw new DuplicateResourceException("Username already registered with another user", "username");
+		// Persist changes, UNIQUE constraints reject duplicates
+		UserModel saved;
+		try {
+			saved = userRepository.saveAndFlush(existing);
+		} catch (DataIntegrityViolationException e) {
+			throw translateDuplicate(e, true);
 		}
 
-		modelMapper.map(requestDto, existing);
-		UserModel saved = userRepository.save(existing);
+		// Drop cached credentials of previous username
+		userDetailsCache.invalidate(TenantContext.getTenantKey(), previousUsername);
+
+		// Tokens issued to previous username no longer identify this user
+		if (!previousUsername.equals(saved.getUsername()))
+			revocationRegistry.revokeUser(TenantContext.getTenantKey(), previousUsername);
 		return mapper.toDto(saved);
 	}
 
@@ -130,11 +199,59 @@ public class UserServiceImpl implements UserService {
 	 */
 	@Override
 	public void deleteUser(Long id) {
-		// Validate user existence
-		UserModel user = userRepository.findById(id)
+		// Username is needed to invalidate credentials of deleted user
+		String username = userRepository.findUsernameById(id)
 			.orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
-		// Delete user
-		userRepository.delete(user);
+
+		// Delete user, no affected row means it was deleted concurrently
+		if (userRepository.delete(UserSpecification.hasId(id)) == 0)
+			throw new ResourceNotFoundException("User not found with id: " + id);
+		countCache.invalidate(COUNT_RESOURCE);
+
+		// Drop cached credentials and revoke issued tokens
+		userDetailsCache.invalidate(TenantContext.getTenantKey(), username);
+		revocationRegistry.revokeUser(TenantContext.getTenantKey(), username);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void patchUser(Long id, UserPatchRequestDto requestDto) {
+		// Nothing to change, only existence matters
+		if (requestDto.getEmail() == null && requestDto.getUsername() == null) {
+			if (!userRepository.existsById(id))
+				throw new ResourceNotFoundException("User not found with id: " + id);
+			return;
+		}
+
+		// Previous username is needed only when username changes
+		String previousUsername = null;
+		if (requestDto.getUsername() != null) {
+			previousUsername = userRepository.findUsernameById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+		}
+
+		// Single UPDATE, matched row count tells whether user exists
+		long updated;
+		try {
+			updated = userRepository.update(UpdateSpecification.<UserModel>update((root, query, cb) -> {
+				if (requestDto.getEmail() != null)
+					query.set(root.get("email"), requestDto.getEmail());
+				if (requestDto.getUsername() != null)
+					query.set(root.get("username"), requestDto.getUsername());
+			}).where(UserSpecification.hasId(id)));
+		} catch (DataIntegrityViolationException e) {
+			throw translateDuplicate(e, true);
+		}
+		if (updated == 0)
+			throw new ResourceNotFoundException("User not found with id: " + id);
+
+		// Tokens and cached credentials of previous username no longer identify this user
+		if (previousUsername != null && !previousUsername.equals(requestDto.getUsername())) {
+			userDetailsCache.invalidate(TenantContext.getTenantKey(), previousUsername);
+			revocationRegistry.revokeUser(TenantContext.getTenantKey(), previousUsername);
+		}
 	}
 
 	/**
@@ -142,37 +259,58 @@ public class UserServiceImpl implements UserService {
 	 */
 	@Override
 	public UserResponseDto getUser(Long id) {
-		UserModel user = userRepository.findById(id)
+		// Fetch user response columns by ID, password is never read
+		return userViewRepository.findById(id)
 			.orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
-		return mapper.toDto(user);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public PageResponseDto<UserResponseDto> getUsers(Long pageNo, Long pageSize, String sortBy, String sortDir) {
+	public PageResponseDto<UserResponseDto> getUsers(Long pageNo, Long pageSize, String sortBy, String sortDir,
+		CountMode countMode) {
 		// Build pagination configuration
 		Pageable pageable = buildPageable(pageNo, pageSize, sortBy, sortDir);
 
-		// Fetch paginated users
-		Page<UserModel> page = userRepository.findAll(pageable);
-
-		// Map entities to DTOs
-		List<UserResponseDto> content = page.getContent()
-			.stream()
-			.map(mapper::toDto)
-			.toList();
+		// Fetch projected page with count query, or slice detecting next page only
+		Slice<UserResponseDto> slice;
+		Long totalElements;
+		if (countMode == CountMode.EXACT) {
+			Page<UserResponseDto> page = pageExecutor.findPage(pageable,
+				() -> PageableExecutionUtils.getPage(userViewRepository.findSlice(pageable).getContent(),
+					pageable, userRepository::count),
+				() -> userViewRepository.findSlice(pageable),
+				userRepository::count);
+			slice = page;
+			totalElements = page.getTotalElements();
+		} else {
+			slice = userViewRepository.findSlice(pageable);
+			totalElements = countMode == CountMode.ESTIMATE
+				? countCache.get(COUNT_RESOURCE, null, userRepository::count)
+				: null;
+		}
 
 		// Build paginated response
-		return new PageResponseDto<>(
-			content,
-			page.getNumber(),
-			page.getSize(),
-			page.getTotalElements(),
-			page.getTotalPages(),
-			page.hasNext(),
-			page.hasPrevious());
+		return PageResponseDto.of(slice, slice.getContent(), totalElements);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public CursorPageResponseDto<UserResponseDto> getUsersByCursor(String cursor, Long pageSize, String sortBy, String sortDir) {
+		int size = pageSize(pageSize);
+
+		// Build keyset ordering and position after previous page
+		Sort sort = CursorPagination.sort(sortBy, sortDir, CURSOR_SORT_FIELDS);
+		ScrollPosition position = CursorPagination.decode(cursor, sort, CURSOR_SORT_FIELDS);
+
+		// Seek past previous page without offset or count query
+		Window<UserModel> window = userRepository.findBy(Specification.unrestricted(),
+			query -> query.sortBy(sort).limit(size).scroll(position));
+
+		return CursorPagination.toResponse(window, sort, size, mapper::toDto);
 	}
 
 }
\ No newline at end of file
@@ -1,9 +1,21 @@
 package com.multitenant.app.tenant.specification;
 
+import com.multitenant.app.common.exception.BadRequestException;
+import com.multitenant.app.config.FullTextFunctionContributor;
+import com.multitenant.app.tenant.dto.request.CustomerFilterDto;
+import com.multitenant.app.tenant.enums.Gender;
 import com.multitenant.app.tenant.model.CustomerModel;
+import org.springframework.data.jpa.domain.PredicateSpecification;
 import org.springframework.data.jpa.domain.Specification;
 
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * CustomerSpecification
@@ -12,10 +24,15 @@ import jakarta.persistence.criteria.Expression;
  * for Customer entity using JPA Specifications.
  *
  * Supports global search across multiple
- * customer fields.
+ * customer fields, either by substring match or
+ * through the customer FULLTEXT index, and typed
+ * filters backed by customer indexes.
  */
 public class CustomerSpecification {
 
+	/* Shortest word indexed by InnoDB full-text parser (innodb_ft_min_token_size) */
+	private static final int MIN_TOKEN_LENGTH = 3;
+
 	/**
 	 * Creates global search specification.
 	 *
@@ -56,4 +73,162 @@ public class CustomerSpecification {
 		};
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Creates index-backed global search specification.
+	 *
+	 * Applies OR-based filtering on:
+	 * - Text fields through FULLTEXT index, each word
+	 *   required and matched as a prefix
+	 * - Gender, age and DOB by exact typed comparison
+	 *   when the keyword parses as such
+	 *
+	 * Falls back to substring search when keyword has
+	 * nothing an index can serve (e.g. only short words).
+	 *
+	 * @param search search keyword
+	 * @return specification predicate
+	 */
+	public static Specification<CustomerModel> fullTextSearch(String search) {
+		if (search == null || search.isBlank())
+			return globalSearch(search);
+
+		String term = search.trim();
+		String against = booleanQuery(term);
+		Byte gender = Gender.fromString(term);
+		Byte age = parseAge(term);
+		LocalDate dateOfBirth = parseDate(term);
+
+		if (against == null && gender == null && age == null && dateOfBirth == null)
+			return globalSearch(search);
+
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>();
+			if (against != null) {
+				Expression<Double> score = cb.function(FullTextFunctionContributor.CUSTOMER_MATCH, Double.class,
+					root.get("firstName"),
+					root.get("lastName"),
+					root.get("email"),
+					root.get("mobile"),
+					root.get("address1"),
+					root.get("address2"),
+					cb.literal(against));
+				predicates.add(cb.greaterThan(score, 0.0));
+			}
+			if (gender != null)
+				predicates.add(cb.equal(root.get("gender"), gender));
+			if (age != null)
+				predicates.add(cb.equal(root.get("age"), age));
+			if (dateOfBirth != null)
+				predicates.add(cb.equal(root.get("dateOfBirth"), dateOfBirth));
+			return cb.or(predicates.toArray(Predicate[]::new));
+		};
+	}
+
+	/**
+	 * Builds boolean mode query requiring every indexable
+	 * word as a prefix, or null when no word is indexable.
+	 */
+	private static String booleanQuery(String term) {
+		StringBuilder against = new StringBuilder();
+		// Split like full-text parser does, dropping boolean operators
+		for (String word : term.split("[^\\p{L}\\p{N}_]+")) {
+			if (word.length() < MIN_TOKEN_LENGTH)
+				continue;
+			if (!against.isEmpty())
+				against.append(' ');
+			against.append('+').append(word).append('*');
+		}
+		return against.isEmpty() ? null : against.toString();
+	}
+
+	/**
+	 * Parses keyword as customer age, or null when not an age.
+	 */
+	private static Byte parseAge(String term) {
+		if (term.length() > 3 || !term.chars().allMatch(Character::isDigit))
+			return null;
+		int age = Integer.parseInt(term);
+		return age <= Byte.MAX_VALUE ? (byte) age : null;
+	}
+
+	/**
+	 * Parses keyword as ISO date of birth, or null when not a date.
+	 */
+	private static LocalDate parseDate(String term) {
+		try {
+			return LocalDate.parse(term);
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates predicate matching customer by ID,
+	 * usable by queries, updates and deletes.
+	 *
+	 * @param id customer identifier
+	 * @return predicate specification
+	 */
+	public static PredicateSpecification<CustomerModel> hasId(Long id) {
+		return (from, cb) -> cb.equal(from.get("id"), id);
+	}
+
+	/**
+	 * Creates typed filter specification.
+	 *
+	 * Applies AND-based filtering, each predicate comparing
+	 * a bare column so it can use the column's index:
+	 * - Gender equality
+	 * - Age, date of birth and creation date ranges
+	 * - Email and mobile prefixes
+	 *
+	 * @param filter typed filters (null fields are ignored)
+	 * @return specification predicate
+	 * @throws BadRequestException if gender is not supported
+	 */
+	public static Specification<CustomerModel> filter(CustomerFilterDto filter) {
+		// Validate gender before query is built
+		Byte gender = filter != null ? Gender.fromString(filter.getGender()) : null;
+		if (filter != null && filter.getGender() != null && gender == null)
+			throw new BadRequestException("Invalid gender: " + filter.getGender());
+
+		return (root, query, cb) -> {
+			if (filter == null)
+				return cb.conjunction(); // No filtering applied
+
+			List<Predicate> predicates = new ArrayList<>();
+			if (gender != null)
+				predicates.add(cb.equal(root.get("gender"), gender));
+			if (filter.getMinAge() != null)
+				predicates.add(cb.ge(root.<Byte>get("age"), filter.getMinAge()));
+			if (filter.getMaxAge() != null)
+				predicates.add(cb.le(root.<Byte>get("age"), filter.getMaxAge()));
+			if (filter.getDobFrom() != null)
+				predicates.add(cb.greaterThanOrEqualTo(root.<LocalDate>get("dateOfBirth"), filter.getDobFrom()));
+			if (filter.getDobTo() != null)
+				predicates.add(cb.lessThanOrEqualTo(root.<LocalDate>get("dateOfBirth"), filter.getDobTo()));
+
+			// Whole days as half-open timestamp range
+			if (filter.getCreatedFrom() != null)
+				predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"), filter.getCreatedFrom().atStartOfDay()));
+			if (filter.getCreatedTo() != null)
+				predicates.add(cb.lessThan(root.<LocalDateTime>get("createdAt"), filter.getCreatedTo().plusDays(1).atStartOfDay()));
+
+			// Prefix match on bare column stays a range scan
+			if (filter.getEmailPrefix() != null && !filter.getEmailPrefix().isBlank())
+				predicates.add(cb.like(root.<String>get("email"), escapeLike(filter.getEmailPrefix().trim()) + "%", '\\'));
+			if (filter.getMobilePrefix() != null && !filter.getMobilePrefix().isBlank())
+				predicates.add(cb.like(root.<String>get("mobile"), filter.getMobilePrefix().trim() + "%"));
+
+			return cb.and(predicates.toArray(Predicate[]::new));
+		};
+	}
+
+	/**
+	 * Escapes LIKE wildcards so value matches literally.
+	 */
+	private static String escapeLike(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+
+}
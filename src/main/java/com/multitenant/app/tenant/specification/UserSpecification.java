@@ -0,0 +1,25 @@
+package com.multitenant.app.tenant.specification;
+
+import com.multitenant.app.tenant.model.UserModel;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+
+/**
+ * UserSpecification
+ *
+ * Provides reusable predicates for
+ * User entity using JPA Specifications.
+ */
+public class UserSpecification {
+
+	/**
+	 * Creates predicate matching user by ID,
+	 * usable by queries, updates and deletes.
+	 *
+	 * @param id user identifier
+	 * @return predicate specification
+	 */
+	public static PredicateSpecification<UserModel> hasId(Long id) {
+		return (from, cb) -> cb.equal(from.get("id"), id);
+	}
+
+}
\ No newline at end of file
@@ -20,13 +20,16 @@ CREATE TABLE IF NOT EXISTS tenants (
 -- MASTER TABLE: TENANT_DB_CONFIG
 -- Stores physical database configuration for each tenant
 -- Used for dynamic datasource routing
+-- POOLED tenants share one database (db_name is not unique)
+-- Tables of earlier versions are upgraded by MasterSchemaServiceImpl
 -- =========================================================
 CREATE TABLE IF NOT EXISTS tenant_db_config (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
 
     tenant_id BINARY(16) NOT NULL UNIQUE,
 
-    db_name VARCHAR(150) NOT NULL UNIQUE,
+    db_name VARCHAR(150) NOT NULL,
+    tier VARCHAR(20) NOT NULL DEFAULT 'DEDICATED',
     db_host VARCHAR(100) NOT NULL,
     db_port INT NOT NULL,
     db_username VARCHAR(100),
@@ -35,8 +38,48 @@ CREATE TABLE IF NOT EXISTS tenant_db_config (
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
+    INDEX idx_tenant_db_config_db_name (db_name),
+
     CONSTRAINT fk_tenant_db_config_tenant
     FOREIGN KEY (tenant_id)
     REFERENCES tenants(id)
     ON DELETE CASCADE
-);
\ No newline at end of file
+);
+-- =========================================================
+-- MASTER TABLE: TENANT_ONBOARDING_JOBS
+-- Tracks asynchronous tenant onboarding and its steps
+-- Registration payload is never stored
+-- No foreign key: tenants of failed jobs are removed
+-- =========================================================
+CREATE TABLE IF NOT EXISTS tenant_onboarding_jobs (
+    id BINARY(16) NOT NULL,
+
+    tenant_id BINARY(16),
+    company_code VARCHAR(50) NOT NULL,
+    warm_db_name VARCHAR(150),
+    status VARCHAR(20) NOT NULL,
+    current_step VARCHAR(30),
+    completed_steps VARCHAR(255) NOT NULL DEFAULT '',
+    error_message VARCHAR(500),
+
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (id),
+
+    INDEX idx_tenant_onboarding_jobs_status_updated (status, updated_at)
+);
+
+-- =========================================================
+-- MASTER TABLE: TENANT_WARM_DATABASES
+-- Empty tenant databases with current schema, ready to be
+-- mapped to dedicated tenants at registration
+-- Row is deleted when database is claimed
+-- =========================================================
+CREATE TABLE IF NOT EXISTS tenant_warm_databases (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+
+    db_name VARCHAR(150) NOT NULL UNIQUE,
+
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP
+);
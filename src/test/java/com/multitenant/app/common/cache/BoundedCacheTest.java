@@ -0,0 +1,132 @@
+package com.multitenant.app.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedEntryAboveMaxSize() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2, 0);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        // Reading "a" makes "b" the least recently used entry
+        assertThat(cache.get("a")).isEqualTo(1);
+        cache.put("c", 3);
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void expiresEntriesAfterWriteTtl() throws InterruptedException {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, 50);
+        cache.put("a", 1);
+        assertThat(cache.get("a")).isEqualTo(1);
+
+        Thread.sleep(80);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void idleExpiryIsRefreshedByReads() throws InterruptedException {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, 200, true, null);
+        cache.put("a", 1);
+
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(100);
+            assertThat(cache.get("a")).isEqualTo(1);
+        }
+
+        Thread.sleep(300);
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void evictExpiredSweepsUnreadEntries() throws InterruptedException {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, 50);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        Thread.sleep(80);
+
+        assertThat(cache.evictExpired()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesAboveMaxWeight() {
+        BoundedCache<String, String> cache = new BoundedCache<>(100, 10, String::length, 0);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        assertThat(cache.weight()).isEqualTo(8);
+
+        cache.put("c", "cccc");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo("bbbb");
+        assertThat(cache.get("c")).isEqualTo("cccc");
+        assertThat(cache.weight()).isEqualTo(8);
+    }
+
+    @Test
+    void replacingEntryUpdatesWeight() {
+        BoundedCache<String, String> cache = new BoundedCache<>(100, 10, String::length, 0);
+        cache.put("a", "aaaa");
+        cache.put("a", "aa");
+
+        assertThat(cache.weight()).isEqualTo(2);
+        cache.invalidate("a");
+        assertThat(cache.weight()).isZero();
+    }
+
+    @Test
+    void putIfAbsentKeepsLiveEntry() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, 0);
+
+        assertThat(cache.putIfAbsent("a", 1)).isNull();
+        assertThat(cache.putIfAbsent("a", 2)).isEqualTo(1);
+        assertThat(cache.get("a")).isEqualTo(1);
+    }
+
+    @Test
+    void notifiesListenerOfEvictedAndReplacedValues() {
+        List<Integer> removed = new ArrayList<>();
+        BoundedCache<String, Integer> cache = new BoundedCache<>(1, 0, false, (key, value) -> removed.add(value));
+        cache.put("a", 1);
+        cache.put("a", 2);
+        cache.put("b", 3);
+        cache.invalidate("b");
+
+        assertThat(removed).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, 0);
+        cache.put("a", 1);
+        cache.get("a");
+        cache.get("b");
+
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThatThrownBy(() -> new BoundedCache<String, Integer>(0, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.multitenant.app.common.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DuplicateKeyViolationsTest {
+
+    @Test
+    void extractsIndexFromMySql8Message() {
+        Throwable failure = wrap(duplicate("Duplicate entry 'jane@example.com' for key 'customers.email'"));
+
+        assertThat(DuplicateKeyViolations.violatedKey(failure)).isEqualTo("email");
+    }
+
+    @Test
+    void extractsIndexFromMySql57Message() {
+        Throwable failure = wrap(duplicate("Duplicate entry 'ACME' for key 'company_code'"));
+
+        assertThat(DuplicateKeyViolations.violatedKey(failure)).isEqualTo("company_code");
+    }
+
+    @Test
+    void ignoresKeyLikeTextInsideDuplicatedValue() {
+        Throwable failure = wrap(duplicate(
+            "Duplicate entry 'x' for key 'customers.phone'' for key 'customers.email'"));
+
+        assertThat(DuplicateKeyViolations.violatedKey(failure)).isEqualTo("email");
+    }
+
+    @Test
+    void returnsNullForOtherConstraintViolations() {
+        SQLException notNull = new SQLIntegrityConstraintViolationException(
+            "Column 'email' cannot be null", "23000", 1048);
+
+        assertThat(DuplicateKeyViolations.violatedKey(wrap(notNull))).isNull();
+    }
+
+    @Test
+    void returnsNullWithoutSqlCause() {
+        assertThat(DuplicateKeyViolations.violatedKey(new DataIntegrityViolationException("constraint"))).isNull();
+        assertThat(DuplicateKeyViolations.violatedKey(null)).isNull();
+    }
+
+    private static SQLException duplicate(String message) {
+        return new SQLIntegrityConstraintViolationException(message, "23000", 1062);
+    }
+
+    /* Wraps driver error the way Spring Data JPA surfaces it */
+    private static Throwable wrap(SQLException sql) {
+        ConstraintViolationException hibernate = new ConstraintViolationException(
+            "could not execute statement", sql, "insert into customers ...", null);
+        return new DataIntegrityViolationException("could not execute statement", hibernate);
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.multitenant.app.common.pagination;
+
+import com.multitenant.app.common.exception.BadRequestException;
+import com.multitenant.app.common.response.CursorPageResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPaginationTest {
+
+    private static final Map<String, Class<?>> SORT_FIELDS = Map.of(
+        "id", Long.class,
+        "name", String.class,
+        "createdAt", LocalDateTime.class);
+
+    @Test
+    void sortAddsIdTieBreaker() {
+        Sort sort = CursorPagination.sort("name", "desc", SORT_FIELDS);
+
+        assertThat(sort).containsExactly(Sort.Order.desc("name"), Sort.Order.desc("id"));
+        assertThat(CursorPagination.sort("id", "asc", SORT_FIELDS)).containsExactly(Sort.Order.asc("id"));
+    }
+
+    @Test
+    void sortRejectsUnsupportedField() {
+        assertThatThrownBy(() -> CursorPagination.sort("email", "asc", SORT_FIELDS))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void blankCursorStartsAtFirstPage() {
+        Sort sort = CursorPagination.sort("name", "asc", SORT_FIELDS);
+
+        ScrollPosition position = CursorPagination.decode(" ", sort, SORT_FIELDS);
+
+        assertThat(position.isInitial()).isTrue();
+    }
+
+    @Test
+    void nextCursorRoundTripsTypedKeys() {
+        Sort sort = CursorPagination.sort("createdAt", "desc", SORT_FIELDS);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 14, 15, 9, 26);
+
+        String cursor = nextCursor(sort, keys("createdAt", createdAt, 42L));
+        ScrollPosition position = CursorPagination.decode(cursor, sort, SORT_FIELDS);
+
+        assertThat(position).isInstanceOf(KeysetScrollPosition.class);
+        assertThat(((KeysetScrollPosition) position).getKeys())
+            .containsEntry("createdAt", createdAt)
+            .containsEntry("id", 42L);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        Sort sort = CursorPagination.sort("name", "asc", SORT_FIELDS);
+        Window<String> window = Window.from(List.of("a"),
+            index -> ScrollPosition.forward(keys("name", "a", 1L)), false);
+
+        CursorPageResponseDto<String> response = CursorPagination.toResponse(window, sort, 20, value -> value);
+
+        assertThat(response.getContent()).containsExactly("a");
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    @Test
+    void rejectsCursorOfOppositeDirection() {
+        Sort ascending = CursorPagination.sort("name", "asc", SORT_FIELDS);
+        Sort descending = CursorPagination.sort("name", "desc", SORT_FIELDS);
+        String cursor = nextCursor(ascending, keys("name", "Smith", 7L));
+
+        assertThatThrownBy(() -> CursorPagination.decode(cursor, descending, SORT_FIELDS))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Cursor does not match requested sort");
+    }
+
+    @Test
+    void rejectsCursorOfAnotherSortField() {
+        Sort byName = CursorPagination.sort("name", "asc", SORT_FIELDS);
+        Sort byCreatedAt = CursorPagination.sort("createdAt", "asc", SORT_FIELDS);
+        String cursor = nextCursor(byName, keys("name", "Smith", 7L));
+
+        assertThatThrownBy(() -> CursorPagination.decode(cursor, byCreatedAt, SORT_FIELDS))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Cursor does not match requested sort");
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        Sort sort = CursorPagination.sort("name", "asc", SORT_FIELDS);
+
+        assertThatThrownBy(() -> CursorPagination.decode("not a cursor!", sort, SORT_FIELDS))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> CursorPagination.decode("QUJD", sort, SORT_FIELDS))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void rejectsCursorWithUnparsableValue() {
+        Sort byCreatedAt = CursorPagination.sort("createdAt", "asc", SORT_FIELDS);
+        String cursor = nextCursor(byCreatedAt, keys("createdAt", "yesterday", 7L));
+
+        assertThatThrownBy(() -> CursorPagination.decode(cursor, byCreatedAt, SORT_FIELDS))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Invalid cursor");
+    }
+
+    private static String nextCursor(Sort sort, Map<String, Object> keys) {
+        Window<String> window = Window.from(List.of("a", "b"), index -> ScrollPosition.forward(keys), true);
+        return CursorPagination.toResponse(window, sort, 2, value -> value).getNextCursor();
+    }
+
+    private static Map<String, Object> keys(String sortBy, Object value, long id) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortBy, value);
+        keys.put("id", id);
+        return keys;
+    }
+
+}
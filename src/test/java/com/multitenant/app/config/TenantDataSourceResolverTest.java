@@ -0,0 +1,134 @@
+package com.multitenant.app.config;
+
+import com.multitenant.app.common.exception.TenantNotFoundException;
+import com.multitenant.app.common.exception.TenantUnavailableException;
+import com.multitenant.app.master.service.TenantDbConfigService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TenantDataSourceResolverTest {
+
+    private TenantDbConfigService tenantDbConfigService;
+
+    private TenantDataSourceRegistry registry;
+
+    private TenantDataSourceResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        tenantDbConfigService = mock(TenantDbConfigService.class);
+        registry = new TenantDataSourceRegistry(10, 60_000, 1_000);
+        resolver = new TenantDataSourceResolver(tenantDbConfigService, registry,
+            2, 5_000, 60_000, 60_000, TenantPoolingMode.PER_DATABASE, 5, "information_schema");
+    }
+
+    @AfterEach
+    void tearDown() {
+        resolver.shutdown();
+        registry.shutdown();
+    }
+
+    @Test
+    void returnsRegisteredPoolWithoutLookup() {
+        DataSource dataSource = mock(DataSource.class);
+        registry.register("tenant_a", dataSource);
+
+        assertThat(resolver.resolveDataSource("tenant_a")).isSameAs(dataSource);
+        verify(tenantDbConfigService, never()).getDbConfigByDbName("tenant_a");
+    }
+
+    @Test
+    void returnsNullForBlankDatabaseName() {
+        assertThat(resolver.resolveDataSource(" ")).isNull();
+    }
+
+    @Test
+    void concurrentCallersShareSingleCreation() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch releaseLookup = new CountDownLatch(1);
+        when(tenantDbConfigService.getDbConfigByDbName("tenant_a")).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await(5, TimeUnit.SECONDS);
+            throw new TenantNotFoundException("Tenant not found");
+        });
+
+        int callers = 8;
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Throwable>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++)
+                results.add(callerPool.submit(() -> catchThrowable(() -> resolver.resolveDataSource("tenant_a"))));
+
+            assertThat(lookupStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            // Give remaining callers time to join the in-flight creation
+            Thread.sleep(100);
+            releaseLookup.countDown();
+
+            for (Future<Throwable> result : results)
+                assertThat(result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOfAny(TenantNotFoundException.class, TenantUnavailableException.class);
+        } finally {
+            callerPool.shutdownNow();
+        }
+
+        verify(tenantDbConfigService, times(1)).getDbConfigByDbName("tenant_a");
+    }
+
+    @Test
+    void failedCreationBacksOffInsteadOfRetryingImmediately() {
+        when(tenantDbConfigService.getDbConfigByDbName("tenant_a"))
+            .thenThrow(new TenantNotFoundException("Tenant not found"));
+
+        assertThatThrownBy(() -> resolver.resolveDataSource("tenant_a"))
+            .isInstanceOf(TenantNotFoundException.class);
+        assertThatThrownBy(() -> resolver.resolveDataSource("tenant_a"))
+            .isInstanceOf(TenantUnavailableException.class)
+            .hasMessageContaining("temporarily unavailable");
+
+        verify(tenantDbConfigService, times(1)).getDbConfigByDbName("tenant_a");
+    }
+
+    @Test
+    void creationOfOneTenantDoesNotBlockAnother() throws Exception {
+        CountDownLatch releaseLookup = new CountDownLatch(1);
+        when(tenantDbConfigService.getDbConfigByDbName("tenant_slow")).thenAnswer(invocation -> {
+            releaseLookup.await(5, TimeUnit.SECONDS);
+            throw new TenantNotFoundException("Tenant not found");
+        });
+        DataSource dataSource = mock(DataSource.class);
+        registry.register("tenant_fast", dataSource);
+
+        ExecutorService callerPool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Throwable> slow = callerPool.submit(() -> catchThrowable(() -> resolver.resolveDataSource("tenant_slow")));
+
+            assertThat(resolver.resolveDataSource("tenant_fast")).isSameAs(dataSource);
+            assertThat(slow.isDone()).isFalse();
+
+            releaseLookup.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isInstanceOf(TenantNotFoundException.class);
+        } finally {
+            callerPool.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.multitenant.app.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.multitenant.app.context.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.MutableConfiguration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantQueryCacheAccessTest {
+
+    private CacheManager cacheManager;
+
+    private Cache<Object, Object> cache;
+
+    private TenantCacheStatistics statistics;
+
+    private TenantQueryCacheAccess access;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cache = cacheManager.createCache("query-" + System.nanoTime(), new MutableConfiguration<>());
+        statistics = new TenantCacheStatistics(100);
+        access = new TenantQueryCacheAccess(cache, TenantCacheRegions.QUERY, statistics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        cacheManager.close();
+    }
+
+    @Test
+    void sameQueryKeyIsKeptApartPerTenant() {
+        TenantContext.setTenantDb("tenant_a");
+        access.putIntoCache("query", "result of a", null);
+
+        TenantContext.setTenantDb("tenant_b");
+        assertThat(access.getFromCache("query", null)).isNull();
+        access.putIntoCache("query", "result of b", null);
+
+        TenantContext.setTenantDb("tenant_a");
+        assertThat(access.getFromCache("query", null)).isEqualTo("result of a");
+        assertThat(access.contains("query")).isTrue();
+    }
+
+    @Test
+    void storedKeysNameOwningTenant() {
+        TenantContext.setTenantDb("tenant_a");
+        access.putIntoCache("query", "result of a", null);
+        TenantContext.setTenantDb("tenant_b");
+        access.putIntoCache("query", "result of b", null);
+
+        // Per-tenant eviction in TenantCacheServiceImpl removes entries by owner
+        cache.forEach(entry -> {
+            if ("tenant_a".equals(TenantCacheKeysFactory.tenantOf(entry.getKey())))
+                cache.remove(entry.getKey());
+        });
+
+        List<Object> remaining = new ArrayList<>();
+        cache.forEach(entry -> remaining.add(entry.getValue()));
+        assertThat(remaining).containsExactly("result of b");
+    }
+
+    @Test
+    void countsAccessesOfCurrentTenant() {
+        TenantContext.setTenantDb("tenant_a");
+        access.getFromCache("query", null);
+        access.putIntoCache("query", "result", null);
+        access.getFromCache("query", null);
+
+        TenantCacheStatistics.RegionCounters counters = statistics.get("tenant_a").get(TenantCacheRegions.QUERY);
+        assertThat(counters.getHitCount()).isEqualTo(1);
+        assertThat(counters.getMissCount()).isEqualTo(1);
+        assertThat(counters.getPutCount()).isEqualTo(1);
+        assertThat(statistics.get("tenant_b")).isEmpty();
+    }
+
+    @Test
+    void worksWithoutStatistics() {
+        TenantQueryCacheAccess uncounted = new TenantQueryCacheAccess(cache, TenantCacheRegions.QUERY, null);
+        TenantContext.setTenantDb("tenant_a");
+
+        uncounted.putIntoCache("query", "result", null);
+
+        assertThat(uncounted.getFromCache("query", null)).isEqualTo("result");
+        uncounted.evictData("query");
+        assertThat(uncounted.getFromCache("query", null)).isNull();
+    }
+
+}
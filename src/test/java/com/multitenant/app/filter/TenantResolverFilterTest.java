@@ -0,0 +1,78 @@
+package com.multitenant.app.filter;
+
+import com.multitenant.app.config.TenantDataSourceResolver;
+import com.multitenant.app.config.TenantResolver;
+import com.multitenant.app.context.TenantContext;
+import com.multitenant.app.context.TenantResolution;
+import com.multitenant.app.master.dto.response.TenantDbConfigResponseDto;
+import com.multitenant.app.master.enums.TenantTier;
+import com.multitenant.app.master.service.TenantLookupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TenantResolverFilterTest {
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    private TenantDataSourceResolver dataSourceResolver;
+
+    private TenantResolver tenantResolver;
+
+    private TenantResolverFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        TenantLookupService lookupService = mock(TenantLookupService.class);
+        TenantDbConfigResponseDto config = new TenantDbConfigResponseDto();
+        config.setTenantId(tenantId);
+        config.setDbName("tenant_acme");
+        config.setTier(TenantTier.DEDICATED);
+        when(lookupService.findTenantDatabase("ACME")).thenReturn(config);
+
+        dataSourceResolver = mock(TenantDataSourceResolver.class);
+        tenantResolver = new TenantResolver(lookupService, dataSourceResolver);
+        filter = new TenantResolverFilter(tenantResolver);
+    }
+
+    @Test
+    void resolvesTenantWithoutOpeningPool() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-COMPANY-CODE", "ACME");
+        AtomicReference<TenantResolution> resolved = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> resolved.set(TenantContext.getTenant()));
+
+        assertThat(resolved.get().getTenantId()).isEqualTo(tenantId);
+        assertThat(resolved.get().getCompanyCode()).isEqualTo("ACME");
+        assertThat(resolved.get().getDbName()).isEqualTo("tenant_acme");
+        assertThat(resolved.get().getDataSource()).isNull();
+        verify(dataSourceResolver, never()).resolveDataSource(anyString());
+        assertThat(TenantContext.getTenant()).isNull();
+    }
+
+    @Test
+    void attachesDataSourceOnRequest() {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSourceResolver.resolveDataSource("tenant_acme")).thenReturn(dataSource);
+
+        TenantResolution tenant = tenantResolver.withDataSource(tenantResolver.resolve("ACME"));
+
+        assertThat(tenant.getDataSource()).isSameAs(dataSource);
+        assertThat(tenant.getCacheKey()).isEqualTo("tenant_acme");
+        assertThat(tenantResolver.withDataSource(tenant)).isSameAs(tenant);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.multitenant.app.master.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MasterSchemaServiceImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private MasterSchemaServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        service = new MasterSchemaServiceImpl(jdbcTemplate);
+    }
+
+    @Test
+    void upgradesTableCreatedBeforeTiers() {
+        givenSchema(0, List.of("PRIMARY", "tenant_id", "db_name", "fk_tenant_db_config_tenant"), List.of("db_name"));
+
+        service.upgradeTenantDbConfig();
+
+        verify(jdbcTemplate).execute(
+            "ALTER TABLE tenant_db_config ADD COLUMN tier VARCHAR(20) NOT NULL DEFAULT 'DEDICATED' AFTER db_name");
+        verify(jdbcTemplate).execute("CREATE INDEX idx_tenant_db_config_db_name ON tenant_db_config (db_name)");
+        verify(jdbcTemplate).execute("ALTER TABLE tenant_db_config DROP INDEX `db_name`");
+    }
+
+    @Test
+    void leavesCurrentTableUnchanged() {
+        givenSchema(1, List.of("PRIMARY", "tenant_id", "idx_tenant_db_config_db_name"), List.of());
+
+        service.upgradeTenantDbConfig();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private void givenSchema(int tierColumns, List<String> indexes, List<String> dbNameUniqueKeys) {
+        when(jdbcTemplate.queryForObject(contains("column_name = 'tier'"), eq(Integer.class))).thenReturn(tierColumns);
+        when(jdbcTemplate.queryForList(argThat(sql -> sql != null && !sql.contains("non_unique")), eq(String.class)))
+            .thenReturn(indexes);
+        when(jdbcTemplate.queryForList(contains("non_unique = 0"), eq(String.class))).thenReturn(dbNameUniqueKeys);
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.multitenant.app.master.service.impl;
+
+import com.multitenant.app.common.mapper.TenantOnboardingJobMapper;
+import com.multitenant.app.config.TenantDataSourceRegistry;
+import com.multitenant.app.master.dto.request.TenantRegisterRequestDto;
+import com.multitenant.app.master.dto.response.TenantResponseDto;
+import com.multitenant.app.master.enums.OnboardingJobStatus;
+import com.multitenant.app.master.enums.TenantTier;
+import com.multitenant.app.master.model.TenantOnboardingJobModel;
+import com.multitenant.app.master.repository.TenantOnboardingJobRepository;
+import com.multitenant.app.master.service.TenantDbConfigService;
+import com.multitenant.app.master.service.TenantPhysicalDbService;
+import com.multitenant.app.master.service.TenantSchemaService;
+import com.multitenant.app.master.service.TenantService;
+import com.multitenant.app.master.service.TenantUserBootstrapService;
+import com.multitenant.app.master.service.TenantWarmPoolService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TenantOnboardingServiceImplTest {
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    private TenantService tenantService;
+
+    private TenantPhysicalDbService physicalDbService;
+
+    private TenantSchemaService schemaService;
+
+    private TenantUserBootstrapService userBootstrapService;
+
+    private TenantWarmPoolService warmPoolService;
+
+    private TenantDataSourceRegistry dataSourceRegistry;
+
+    private TenantOnboardingJobRepository jobRepository;
+
+    private TenantOnboardingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        tenantService = mock(TenantService.class);
+        physicalDbService = mock(TenantPhysicalDbService.class);
+        schemaService = mock(TenantSchemaService.class);
+        userBootstrapService = mock(TenantUserBootstrapService.class);
+        warmPoolService = mock(TenantWarmPoolService.class);
+        dataSourceRegistry = mock(TenantDataSourceRegistry.class);
+        jobRepository = mock(TenantOnboardingJobRepository.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+
+        when(tenantService.createTenant(any()))
+            .thenReturn(new TenantResponseDto(tenantId, "ACME", "Acme", "info@acme.test", "ACTIVE"));
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        when(warmPoolService.claimDatabase()).thenReturn(Optional.empty());
+        when(jobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        // Admin user insert fails after database and schema were provisioned
+        doThrow(new DataIntegrityViolationException("insert failed"))
+            .when(userBootstrapService).createAdminUser(anyString(), any(), any(), any(), any());
+
+        service = new TenantOnboardingServiceImpl(tenantService, mock(TenantDbConfigService.class),
+            physicalDbService, schemaService, userBootstrapService, passwordEncoder, warmPoolService,
+            dataSourceRegistry, jobRepository, mock(TenantOnboardingJobMapper.class), TenantTier.DEDICATED,
+            "tenant_pool", 1, 10, 600_000, "localhost", 3306, "root", "secret");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void failedDedicatedOnboardingDropsCreatedDatabase() {
+        service.submitOnboarding(request(null));
+
+        verifyJobFailed();
+        verify(tenantService).deleteTenant(tenantId);
+        verify(dataSourceRegistry).evict("tenant_acme");
+        verify(physicalDbService).dropDatabase("tenant_acme");
+        verify(schemaService, never()).deleteTenantRows(anyString(), any());
+    }
+
+    @Test
+    void failedPooledOnboardingDeletesTenantRowsOnly() {
+        service.submitOnboarding(request("pooled"));
+
+        verifyJobFailed();
+        verify(tenantService).deleteTenant(tenantId);
+        verify(schemaService).deleteTenantRows("tenant_pool", tenantId);
+        verify(physicalDbService, never()).dropDatabase(anyString());
+    }
+
+    @Test
+    void failedOnboardingOnClaimedWarmDatabaseDiscardsIt() {
+        when(warmPoolService.claimDatabase()).thenReturn(Optional.of("tenant_warm_1"));
+
+        service.submitOnboarding(request(null));
+
+        verifyJobFailed();
+        verify(warmPoolService).discardDatabase("tenant_warm_1");
+        verify(physicalDbService, never()).dropDatabase(anyString());
+    }
+
+    @Test
+    void keepsProvisionedDataWhenTenantCannotBeRemoved() {
+        doThrow(new DataIntegrityViolationException("delete failed")).when(tenantService).deleteTenant(tenantId);
+
+        service.submitOnboarding(request(null));
+
+        verifyJobFailed();
+        verify(physicalDbService, never()).dropDatabase(anyString());
+    }
+
+    private void verifyJobFailed() {
+        // Job row is saved on every step, failure is recorded last
+        verify(jobRepository, timeout(5_000).atLeastOnce())
+            .save(argThat((TenantOnboardingJobModel job) -> job.getStatus() == OnboardingJobStatus.FAILED));
+    }
+
+    private static TenantRegisterRequestDto request(String tier) {
+        return TenantRegisterRequestDto.builder()
+            .companyCode("ACME")
+            .companyName("Acme")
+            .companyEmail("info@acme.test")
+            .adminEmail("admin@acme.test")
+            .adminUsername("admin")
+            .adminPassword("Secret123!")
+            .tier(tier)
+            .build();
+    }
+
+}
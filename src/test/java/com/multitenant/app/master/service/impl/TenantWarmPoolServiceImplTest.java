@@ -0,0 +1,155 @@
+package com.multitenant.app.master.service.impl;
+
+import com.multitenant.app.common.exception.ResourceNotFoundException;
+import com.multitenant.app.config.TenantDataSourceRegistry;
+import com.multitenant.app.config.TenantDataSourceResolver;
+import com.multitenant.app.config.TenantPoolingMode;
+import com.multitenant.app.config.TenantRoutingDataSource;
+import com.multitenant.app.master.model.TenantWarmDatabaseModel;
+import com.multitenant.app.master.repository.TenantDbConfigRepository;
+import com.multitenant.app.master.repository.TenantWarmDatabaseRepository;
+import com.multitenant.app.master.service.TenantDbConfigService;
+import com.multitenant.app.master.service.TenantPhysicalDbService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TenantWarmPoolServiceImplTest {
+
+    private final Map<String, List<String>> statements = new ConcurrentHashMap<>();
+
+    private TenantWarmDatabaseRepository warmDatabaseRepository;
+
+    private TenantPhysicalDbService physicalDbService;
+
+    private TenantDbConfigService tenantDbConfigService;
+
+    private TenantDataSourceRegistry registry;
+
+    private TenantDataSourceResolver resolver;
+
+    private TenantWarmPoolServiceImpl service;
+
+    private volatile boolean failSchema;
+
+    @BeforeEach
+    void setUp() {
+        warmDatabaseRepository = mock(TenantWarmDatabaseRepository.class);
+        physicalDbService = mock(TenantPhysicalDbService.class);
+        tenantDbConfigService = mock(TenantDbConfigService.class);
+        // Warm databases have no configuration row, as in production
+        when(tenantDbConfigService.getDbConfigByDbName(anyString()))
+            .thenThrow(new ResourceNotFoundException("Tenant Database Configuration Not Found"));
+
+        registry = new TenantDataSourceRegistry(10, 60_000, 1_000);
+        resolver = new TenantDataSourceResolver(tenantDbConfigService, registry,
+                2, 5_000, 1_000, 60_000, TenantPoolingMode.PER_DATABASE, 5, "information_schema") {
+
+            @Override
+            protected HikariDataSource createPool(String poolName, String jdbcUrl, String username, String password,
+                    int maximumPoolSize, String catalog) {
+                return recordingPool(jdbcUrl);
+            }
+
+        };
+
+        // Same wiring as DataSourceConfig, master must never be used for tenant DDL
+        TenantRoutingDataSource routing = new TenantRoutingDataSource();
+        routing.setDefaultTargetDataSource(mock(DataSource.class));
+        routing.setTargetDataSources(new HashMap<>());
+        routing.setResolver(resolver);
+        routing.afterPropertiesSet();
+        TenantSchemaServiceImpl schemaService = new TenantSchemaServiceImpl(new JdbcTemplate(routing),
+            mock(TenantDbConfigRepository.class), false, false);
+
+        service = new TenantWarmPoolServiceImpl(warmDatabaseRepository, physicalDbService, schemaService,
+            resolver, registry, mock(PlatformTransactionManager.class), true, 1, false,
+            "db.example", 3306, "tenant", "secret");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        resolver.shutdown();
+        registry.shutdown();
+    }
+
+    @Test
+    void refillCreatesSchemaThroughRoutingAndRecordsDatabase() {
+        service.requestRefill();
+
+        ArgumentCaptor<TenantWarmDatabaseModel> saved = ArgumentCaptor.forClass(TenantWarmDatabaseModel.class);
+        verify(warmDatabaseRepository, timeout(5_000)).save(saved.capture());
+        String dbName = saved.getValue().getDbName();
+
+        assertThat(dbName).startsWith("tenant_warm_");
+        verify(physicalDbService).createDatabase(dbName);
+        verify(physicalDbService, never()).dropDatabase(anyString());
+        assertThat(statements.get("jdbc:mysql://db.example:3306/" + dbName))
+            .anyMatch(sql -> sql.contains("CREATE TABLE IF NOT EXISTS users"))
+            .anyMatch(sql -> sql.contains("CREATE TABLE IF NOT EXISTS customers"))
+            .anyMatch(sql -> sql.contains("CREATE TABLE IF NOT EXISTS user_revocations"));
+        // Pool of unclaimed database is not kept open
+        assertThat(registry.getPoolCount()).isZero();
+    }
+
+    @Test
+    void refillDropsDatabaseWhenSchemaFails() {
+        failSchema = true;
+
+        service.requestRefill();
+
+        ArgumentCaptor<String> created = ArgumentCaptor.forClass(String.class);
+        verify(physicalDbService, timeout(5_000)).dropDatabase(created.capture());
+        verify(physicalDbService).createDatabase(created.getValue());
+        verify(warmDatabaseRepository, never()).save(any());
+        assertThat(registry.getPoolCount()).isZero();
+    }
+
+    /* Pool whose connections record executed statements per JDBC URL */
+    private HikariDataSource recordingPool(String jdbcUrl) {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        statements.put(jdbcUrl.substring(0, jdbcUrl.indexOf('?')), executed);
+        try {
+            Statement statement = mock(Statement.class);
+            when(statement.execute(anyString())).thenAnswer(invocation -> {
+                if (failSchema)
+                    throw new SQLSyntaxErrorException("Access denied", "42000", 1044);
+                executed.add(invocation.getArgument(0));
+                return false;
+            });
+            Connection connection = mock(Connection.class);
+            when(connection.createStatement()).thenReturn(statement);
+            HikariDataSource pool = mock(HikariDataSource.class);
+            when(pool.getConnection()).thenReturn(connection);
+            return pool;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
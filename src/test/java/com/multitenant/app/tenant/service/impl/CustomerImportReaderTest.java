@@ -0,0 +1,98 @@
+package com.multitenant.app.tenant.service.impl;
+
+import com.multitenant.app.tenant.dto.request.CustomerRequestDto;
+import com.multitenant.app.tenant.enums.CustomerFileFormat;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomerImportReaderTest {
+
+    private static final String HEADER = "firstName,lastName,dateOfBirth,age,gender,mobile,email,address1,address2\r\n";
+
+    @Test
+    void readsCsvRecordsMappedByHeader() throws IOException {
+        try (CustomerImportReader reader = reader(CustomerFileFormat.CSV, HEADER
+                + "Jane,Doe,1990-05-01,35,FEMALE,9876543210,jane@example.com,12 Main St,\r\n")) {
+            CustomerRequestDto dto = reader.next();
+
+            assertThat(dto.getFirstName()).isEqualTo("Jane");
+            assertThat(dto.getDateOfBirth()).isEqualTo(LocalDate.of(1990, 5, 1));
+            assertThat(dto.getAge()).isEqualTo((byte) 35);
+            assertThat(dto.getEmail()).isEqualTo("jane@example.com");
+            assertThat(dto.getAddress2()).isNull();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void readsQuotedCsvValuesWithCommasQuotesAndLineBreaks() throws IOException {
+        try (CustomerImportReader reader = reader(CustomerFileFormat.CSV, HEADER
+                + "Jane,Doe,1990-05-01,35,FEMALE,9876543210,jane@example.com,\"12 Main St, \"\"B\"\"\",\"Floor 2\nRoom 4\"\n")) {
+            CustomerRequestDto dto = reader.next();
+
+            assertThat(dto.getAddress1()).isEqualTo("12 Main St, \"B\"");
+            assertThat(dto.getAddress2()).isEqualTo("Floor 2\nRoom 4");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void skipsBlankCsvLinesAndIgnoresUnknownColumns() throws IOException {
+        try (CustomerImportReader reader = reader(CustomerFileFormat.CSV,
+                "email, nickname\n\njane@example.com,JD\n\n")) {
+            assertThat(reader.next().getEmail()).isEqualTo("jane@example.com");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void continuesAfterMalformedCsvRecord() throws IOException {
+        try (CustomerImportReader reader = reader(CustomerFileFormat.CSV,
+                "email,age\nonly-one-column\nbad@example.com,old\njane@example.com,35\n")) {
+            assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected 2 columns but found 1");
+            assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid value for age");
+            assertThat(reader.next().getEmail()).isEqualTo("jane@example.com");
+        }
+    }
+
+    @Test
+    void readsNdjsonAndContinuesAfterMalformedLine() throws IOException {
+        try (CustomerImportReader reader = reader(CustomerFileFormat.NDJSON,
+                "{\"email\":\"jane@example.com\",\"dateOfBirth\":\"1990-05-01\"}\n{not json\n\n{\"email\":\"john@example.com\"}\n")) {
+            CustomerRequestDto first = reader.next();
+            assertThat(first.getEmail()).isEqualTo("jane@example.com");
+            assertThat(first.getDateOfBirth()).isEqualTo(LocalDate.of(1990, 5, 1));
+
+            assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Malformed JSON record");
+            assertThat(reader.next().getEmail()).isEqualTo("john@example.com");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void emptyInputHasNoRecords() throws IOException {
+        try (CustomerImportReader reader = reader(CustomerFileFormat.CSV, "")) {
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    private static CustomerImportReader reader(CustomerFileFormat format, String content) {
+        return new CustomerImportReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+            format, JsonMapper.builder().build());
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.multitenant.app.tenant.service.impl;
+
+import com.multitenant.app.common.mapper.CustomerMapperImpl;
+import com.multitenant.app.common.pagination.TenantCountCache;
+import com.multitenant.app.tenant.dto.response.CustomerImportResultDto;
+import com.multitenant.app.tenant.enums.CustomerFileFormat;
+import com.multitenant.app.tenant.enums.CustomerImportStatus;
+import com.multitenant.app.tenant.model.CustomerModel;
+import com.multitenant.app.tenant.repository.CustomerBatchRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomerImportServiceImplTest {
+
+    private static final String HEADER = "firstName,lastName,dateOfBirth,age,gender,mobile,email,address1\n";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private ValidatorFactory validatorFactory;
+
+    private CustomerBatchRepository batchRepository;
+
+    private TenantCountCache countCache;
+
+    private PlatformTransactionManager transactionManager;
+
+    private CustomerImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        batchRepository = mock(CustomerBatchRepository.class);
+        countCache = mock(TenantCountCache.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        service = new CustomerImportServiceImpl(batchRepository, new CustomerMapperImpl(),
+            validatorFactory.getValidator(), objectMapper, countCache, transactionManager, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void insertsValidRowsInBatches() throws IOException {
+        when(batchRepository.insertAll(anyList())).thenReturn(List.of(10L, 11L), List.of(12L));
+
+        List<CustomerImportResultDto> results = importCsv(row("a", "9000000001"), row("b", "9000000002"),
+            row("c", "9000000003"));
+
+        assertThat(results).extracting(CustomerImportResultDto::getRow).containsExactly(1L, 2L, 3L);
+        assertThat(results).extracting(CustomerImportResultDto::getStatus)
+            .containsOnly(CustomerImportStatus.CREATED);
+        assertThat(results).extracting(CustomerImportResultDto::getId).containsExactly(10L, 11L, 12L);
+        verify(batchRepository, times(2)).insertAll(anyList());
+        verify(batchRepository, never()).insert(any());
+        verify(countCache).invalidate(CustomerServiceImpl.COUNT_RESOURCE);
+    }
+
+    @Test
+    void reportsInvalidRowsWithoutInsertingThem() throws IOException {
+        when(batchRepository.insertAll(anyList())).thenReturn(List.of(10L));
+
+        List<CustomerImportResultDto> results = importCsv("Jane,Doe,1990-05-01,35,FEMALE,123,bad,12 Main St",
+            "too,few,columns", "Jane,Doe,1990-05-01,35,UNKNOWN,9000000001,a@example.com,12 Main St",
+            row("b", "9000000002"));
+
+        assertThat(results).extracting(CustomerImportResultDto::getStatus).containsExactly(
+            CustomerImportStatus.INVALID, CustomerImportStatus.INVALID, CustomerImportStatus.INVALID,
+            CustomerImportStatus.CREATED);
+        assertThat(results.get(0).getField()).isEqualTo("email");
+        assertThat(results.get(2).getField()).isEqualTo("gender");
+        assertThat(results.get(3).getId()).isEqualTo(10L);
+    }
+
+    @Test
+    void retriesRejectedBatchRowByRow() throws IOException {
+        when(batchRepository.insertAll(anyList())).thenThrow(duplicate("customers.email"));
+        when(batchRepository.insert(any())).thenAnswer(invocation -> {
+            CustomerModel customer = invocation.getArgument(0);
+            if (customer.getEmail().startsWith("dup"))
+                throw duplicate("customers.email");
+            return 20L;
+        });
+
+        List<CustomerImportResultDto> results = importCsv(row("a", "9000000001"), row("dup", "9000000002"));
+
+        assertThat(results).extracting(CustomerImportResultDto::getStatus)
+            .containsExactly(CustomerImportStatus.CREATED, CustomerImportStatus.DUPLICATE);
+        assertThat(results.get(0).getId()).isEqualTo(20L);
+        assertThat(results.get(1).getField()).isEqualTo("email");
+        verify(transactionManager).rollback(any());
+        verify(countCache).invalidate(CustomerServiceImpl.COUNT_RESOURCE);
+    }
+
+    @Test
+    void reportsNonDuplicateRowFailureWithoutDetails() throws IOException {
+        when(batchRepository.insertAll(anyList())).thenThrow(new DataIntegrityViolationException("batch failed"));
+        when(batchRepository.insert(any())).thenThrow(new DataIntegrityViolationException("row failed"));
+
+        List<CustomerImportResultDto> results = importCsv(row("a", "9000000001"));
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.getStatus()).isEqualTo(CustomerImportStatus.FAILED);
+            assertThat(result.getMessage()).isEqualTo("Row could not be inserted");
+        });
+        verify(countCache, never()).invalidate(any());
+    }
+
+    private List<CustomerImportResultDto> importCsv(String... rows) throws IOException {
+        String content = HEADER + String.join("\n", rows) + "\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.importCustomers(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+            CustomerFileFormat.CSV, output);
+        return Arrays.stream(output.toString(StandardCharsets.UTF_8).split("\n"))
+            .map(line -> objectMapper.readValue(line, CustomerImportResultDto.class))
+            .toList();
+    }
+
+    private static String row(String name, String mobile) {
+        return "Jane,Doe,1990-05-01,35,FEMALE," + mobile + "," + name + "@example.com,12 Main St";
+    }
+
+    private static DuplicateKeyException duplicate(String key) {
+        return new DuplicateKeyException("insert failed", new SQLIntegrityConstraintViolationException(
+            "Duplicate entry 'x' for key '" + key + "'", "23000", 1062));
+    }
+
+}